@@ -12,6 +12,11 @@ import org.reactivestreams.Publisher;
 
 /**
  * The http connection.
+ * <p>
+ * Implementations may check if response body is a
+ * {@link com.artipie.http.rs.FileRegion} and transfer it to the network
+ * directly from the file instead of subscribing to it.
+ * </p>
  * @since 0.1
  */
 public interface Connection {
@@ -6,15 +6,22 @@ package com.artipie.http;
 
 import com.artipie.http.headers.Header;
 import com.google.common.collect.Iterables;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
 /**
  * HTTP request headers.
+ * <p>
+ * Header names are case-insensitive, use {@link #all(String)} and
+ * {@link #first(String)} to find header values by name.
+ * </p>
  *
  * @since 0.8
  * @checkstyle InterfaceIsTypeCheck (2 lines)
@@ -26,8 +33,45 @@ public interface Headers extends Iterable<Map.Entry<String, String>> {
      */
     Headers EMPTY = new From(Collections.emptyList());
 
+    /**
+     * Header values by name.
+     * @param name Header name, case-insensitive
+     * @return Values, empty list if header is absent
+     * @since 1.2
+     */
+    default List<String> all(final String name) {
+        final List<String> res = new ArrayList<>(1);
+        for (final Map.Entry<String, String> header : this) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                res.add(header.getValue());
+            }
+        }
+        return res;
+    }
+
+    /**
+     * First header value by name.
+     * @param name Header name, case-insensitive
+     * @return Value if header is present
+     * @since 1.2
+     */
+    default Optional<String> first(final String name) {
+        final List<String> values = this.all(name);
+        final Optional<String> res;
+        if (values.isEmpty()) {
+            res = Optional.empty();
+        } else {
+            res = Optional.of(values.get(0));
+        }
+        return res;
+    }
+
     /**
      * {@link Headers} created from something.
+     * <p>
+     * Case-insensitive index of headers is built on first lookup by name,
+     * so origin headers should not be changed.
+     * </p>
      *
      * @since 0.8
      */
@@ -38,6 +82,11 @@ public interface Headers extends Iterable<Map.Entry<String, String>> {
          */
         private final Iterable<Map.Entry<String, String>> origin;
 
+        /**
+         * Index of headers, created on first lookup.
+         */
+        private volatile HeadersIndex index;
+
         /**
          * Ctor.
          *
@@ -144,6 +193,16 @@ public interface Headers extends Iterable<Map.Entry<String, String>> {
         public Spliterator<Map.Entry<String, String>> spliterator() {
             return this.origin.spliterator();
         }
+
+        @Override
+        public List<String> all(final String name) {
+            HeadersIndex idx = this.index;
+            if (idx == null) {
+                idx = new HeadersIndex(this.origin);
+                this.index = idx;
+            }
+            return idx.get(name);
+        }
     }
 
     /**
@@ -187,5 +246,16 @@ public interface Headers extends Iterable<Map.Entry<String, String>> {
         public final Spliterator<Map.Entry<String, String>> spliterator() {
             return this.origin.spliterator();
         }
+
+        @Override
+        public final List<String> all(final String name) {
+            final List<String> res;
+            if (this.origin instanceof Headers) {
+                res = ((Headers) this.origin).all(name);
+            } else {
+                res = Headers.super.all(name);
+            }
+            return res;
+        }
     }
 }
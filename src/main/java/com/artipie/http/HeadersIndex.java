@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Case-insensitive index of header values by name.
+ * <p>
+ * Names are stored in lower case in open addressing hash table. Lookup computes
+ * case-insensitive hash of the name in place, so it doesn't allocate memory and
+ * doesn't depend on the number of headers.
+ * </p>
+ * @since 1.2
+ */
+final class HeadersIndex {
+
+    /**
+     * Lower case header names table.
+     */
+    private final String[] names;
+
+    /**
+     * Header values table.
+     */
+    private final List<List<String>> values;
+
+    /**
+     * Table mask.
+     */
+    private final int mask;
+
+    /**
+     * Index headers.
+     * @param headers Headers
+     */
+    HeadersIndex(final Iterable<Map.Entry<String, String>> headers) {
+        final Map<String, List<String>> grouped = new LinkedHashMap<>();
+        for (final Map.Entry<String, String> header : headers) {
+            grouped.computeIfAbsent(
+                header.getKey().toLowerCase(Locale.US), key -> new ArrayList<>(1)
+            ).add(header.getValue());
+        }
+        final int size = Integer.highestOneBit(Math.max(1, grouped.size())) << 2;
+        this.mask = size - 1;
+        this.names = new String[size];
+        this.values = new ArrayList<>(Collections.nCopies(size, null));
+        for (final Map.Entry<String, List<String>> entry : grouped.entrySet()) {
+            int pos = HeadersIndex.hash(entry.getKey()) & this.mask;
+            while (this.names[pos] != null) {
+                pos = pos + 1 & this.mask;
+            }
+            this.names[pos] = entry.getKey();
+            this.values.set(pos, Collections.unmodifiableList(entry.getValue()));
+        }
+    }
+
+    /**
+     * Header values by name.
+     * @param name Header name, case-insensitive
+     * @return Values, empty list if not found
+     */
+    List<String> get(final String name) {
+        List<String> res = Collections.emptyList();
+        int pos = HeadersIndex.hash(name) & this.mask;
+        while (this.names[pos] != null) {
+            final String item = this.names[pos];
+            if (item.length() == name.length()
+                && item.regionMatches(true, 0, name, 0, name.length())) {
+                res = this.values.get(pos);
+                break;
+            }
+            pos = pos + 1 & this.mask;
+        }
+        return res;
+    }
+
+    /**
+     * Case-insensitive hash code of the name.
+     * @param name Header name
+     * @return Hash code
+     */
+    private static int hash(final String name) {
+        int res = 0;
+        for (int pos = 0; pos < name.length(); ++pos) {
+            res = 31 * res + Character.toLowerCase(name.charAt(pos));
+        }
+        return res ^ res >>> 16;
+    }
+}
@@ -23,6 +23,14 @@ public interface Response {
 
     /**
      * Send the response.
+     * <p>
+     * Sending can be cancelled by cancelling the returned stage, e.g. with
+     * {@code toCompletableFuture().cancel(true)}: the response should not start
+     * the work which was not started yet and should propagate cancellation to
+     * the responses it delegates to. Body publishers passed to the connection must
+     * release underlying resources, such as storage reads or upstream connections,
+     * when subscription is cancelled.
+     * </p>
      *
      * @param connection Connection to send the response to
      * @return Completion stage for sending response to the connection.
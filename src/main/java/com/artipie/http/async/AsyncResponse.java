@@ -8,10 +8,16 @@ import com.artipie.http.Connection;
 import com.artipie.http.Response;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
 import io.reactivex.Single;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
  * Async response from {@link CompletionStage}.
+ * <p>
+ * Cancellation of sending is propagated to the source stage, so pending source work
+ * (e.g. storage read) can be aborted, the response is not sent if source stage was not
+ * completed yet, otherwise cancellation is propagated to the sending response too.
+ * </p>
  * @since 0.6
  */
 public final class AsyncResponse implements Response {
@@ -39,7 +45,60 @@ public final class AsyncResponse implements Response {
 
     @Override
     public CompletionStage<Void> send(final Connection connection) {
-        return this.future.thenCompose(rsp -> rsp.send(connection));
+        final CompletableFuture<Void> res = new CompletableFuture<>();
+        final CompletableFuture<? extends Response> source = this.future.toCompletableFuture();
+        source.whenComplete(
+            (rsp, err) -> {
+                if (err != null) {
+                    res.completeExceptionally(err);
+                } else if (!res.isDone()) {
+                    AsyncResponse.send(rsp, connection, res);
+                }
+            }
+        );
+        res.whenComplete(
+            (none, err) -> {
+                if (res.isCancelled()) {
+                    source.cancel(true);
+                }
+            }
+        );
+        return res;
+    }
+
+    /**
+     * Send response and complete the result with sending stage result.
+     * @param rsp Response
+     * @param connection Connection
+     * @param res Result future, its cancellation is propagated to sending stage
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static void send(final Response rsp, final Connection connection,
+        final CompletableFuture<Void> res) {
+        CompletableFuture<Void> stage;
+        try {
+            stage = rsp.send(connection).toCompletableFuture();
+        } catch (final RuntimeException ex) {
+            stage = new CompletableFuture<>();
+            stage.completeExceptionally(ex);
+        }
+        final CompletableFuture<Void> sending = stage;
+        sending.whenComplete(
+            (none, failure) -> {
+                if (failure == null) {
+                    res.complete(null);
+                } else {
+                    res.completeExceptionally(failure);
+                }
+            }
+        );
+        res.whenComplete(
+            (none, failure) -> {
+                if (res.isCancelled()) {
+                    sending.cancel(true);
+                }
+            }
+        );
     }
 
     @Override
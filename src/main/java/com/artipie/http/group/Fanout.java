@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * How {@link GroupSlice} sends read requests to the group targets.
+ * <p>
+ * Next target is requested when the previous one fails or when hedge delay elapses
+ * after the previous target was requested, whichever comes first. Broadcast requests
+ * all targets at once for the lowest latency, sequential requests next target only
+ * on failure for the lowest backend load, hedged mode is in between. Targets order
+ * is honored in all modes, so hedged mode should be combined with race deadline to
+ * not wait for slow targets.
+ * </p>
+ * @since 1.2
+ */
+public final class Fanout {
+
+    /**
+     * Request all targets at once.
+     */
+    public static final Fanout BROADCAST = new Fanout(Optional.of(Duration.ZERO));
+
+    /**
+     * Request next target only if previous one failed.
+     */
+    public static final Fanout SEQUENTIAL = new Fanout(Optional.empty());
+
+    /**
+     * Hedge delay, empty if next target is requested only on failure.
+     */
+    private final Optional<Duration> hedge;
+
+    /**
+     * Hedged mode: request next target after delay or on failure.
+     * @param hedge Delay before requesting next target
+     */
+    public Fanout(final Duration hedge) {
+        this(Optional.of(hedge));
+    }
+
+    /**
+     * Primary constructor.
+     * @param hedge Hedge delay
+     */
+    private Fanout(final Optional<Duration> hedge) {
+        this.hedge = hedge;
+    }
+
+    /**
+     * Hedge delay.
+     * @return Delay before requesting next target, empty to wait for failure
+     */
+    Optional<Duration> hedge() {
+        return this.hedge;
+    }
+
+    /**
+     * Check if all targets are requested at once.
+     * @return True for broadcast
+     */
+    boolean broadcast() {
+        return this.hedge.map(Duration::isZero).orElse(false);
+    }
+
+    @Override
+    public String toString() {
+        final String res;
+        if (this.broadcast()) {
+            res = "broadcast";
+        } else {
+            res = this.hedge.map(time -> String.format("hedged(%s)", time))
+                .orElse("sequential");
+        }
+        return res;
+    }
+}
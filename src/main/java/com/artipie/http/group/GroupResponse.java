@@ -8,15 +8,30 @@ import com.artipie.http.Connection;
 import com.artipie.http.Response;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
+import io.reactivex.Completable;
+import io.reactivex.disposables.CompositeDisposable;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 /**
  * Group response.
  * <p>
  * The list of responses which can be send to connection by specified order.
+ * Responses are sent all at once or one by one according to {@link Fanout} mode.
+ * If race deadline is set, the order is not honored for responses which are not
+ * completed by the deadline.
+ * </p>
+ * <p>
+ * When the response to reply is chosen or the group sending is cancelled, sending of
+ * responses which didn't complete yet is cancelled and bodies of completed responses
+ * which lost are cancelled, so they don't keep upstream connections and storage reads.
  * </p>
  * @since 0.11
  */
@@ -27,26 +42,66 @@ final class GroupResponse implements Response {
      */
     private final List<Response> responses;
 
+    /**
+     * Race deadline.
+     */
+    private final Optional<Duration> deadline;
+
+    /**
+     * Fan-out mode.
+     */
+    private final Fanout fanout;
+
     /**
      * New group response.
      * @param responses Responses to group
      */
     GroupResponse(final List<Response> responses) {
+        this(responses, Optional.empty(), Fanout.BROADCAST);
+    }
+
+    /**
+     * New group response.
+     * @param responses Responses to group, they are sent according to fan-out mode
+     * @param deadline Race deadline, empty to wait for all earlier ordered responses
+     * @param fanout Fan-out mode
+     */
+    GroupResponse(final List<Response> responses, final Optional<Duration> deadline,
+        final Fanout fanout) {
         this.responses = responses;
+        this.deadline = deadline;
+        this.fanout = fanout;
     }
 
     @Override
     public CompletionStage<Void> send(final Connection con) {
         final CompletableFuture<Void> future = new CompletableFuture<>();
         final GroupResults results = new GroupResults(this.responses.size(), future);
-        for (int pos = 0; pos < this.responses.size(); ++pos) {
-            final GroupConnection connection = new GroupConnection(con, pos, results);
-            this.responses.get(pos)
-                .send(connection)
-                .<CompletionStage<Void>>thenApply(CompletableFuture::completedFuture)
-                .exceptionally(
-                    throwable -> new RsWithStatus(RsStatus.INTERNAL_ERROR).send(connection)
-                );
+        final CompositeDisposable timers = new CompositeDisposable();
+        final AtomicReferenceArray<CompletableFuture<Void>> sending =
+            new AtomicReferenceArray<>(this.responses.size());
+        final Runnable release = () -> {
+            timers.dispose();
+            for (int pos = 0; pos < sending.length(); ++pos) {
+                final CompletableFuture<Void> member = sending.get(pos);
+                if (member != null && !results.completed(pos)) {
+                    member.cancel(true);
+                }
+            }
+        };
+        results.decided().thenRun(release);
+        this.deadline.ifPresent(
+            time -> timers.add(
+                Completable.timer(time.toMillis(), TimeUnit.MILLISECONDS)
+                    .subscribe(() -> results.expire(con))
+            )
+        );
+        if (this.fanout.broadcast()) {
+            for (int pos = 0; pos < this.responses.size(); ++pos) {
+                this.send(pos, new GroupConnection(con, pos, results), results, sending);
+            }
+        } else {
+            new Sequence(con, results, timers, sending).start(0);
         }
         return future;
     }
@@ -58,4 +113,118 @@ final class GroupResponse implements Response {
             this.responses.stream().map(Object::toString).collect(Collectors.joining(", "))
         );
     }
+
+    /**
+     * Send response to group connection if the response to reply is not chosen yet.
+     * @param pos Response order
+     * @param connection Group connection
+     * @param results Results
+     * @param sending Sending futures by order to cancel when the winner is chosen
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void send(final int pos, final Connection connection,
+        final GroupResults results,
+        final AtomicReferenceArray<CompletableFuture<Void>> sending) {
+        if (!results.decided().toCompletableFuture().isDone()) {
+            final CompletableFuture<Void> res = this.responses.get(pos)
+                .send(connection).toCompletableFuture();
+            sending.set(pos, res);
+            if (results.decided().toCompletableFuture().isDone() && !results.completed(pos)) {
+                res.cancel(true);
+            }
+            res.<CompletionStage<Void>>thenApply(CompletableFuture::completedFuture)
+                .exceptionally(
+                    throwable -> {
+                        final CompletionStage<Void> failed;
+                        if (res.isCancelled()) {
+                            failed = CompletableFuture.completedFuture(null);
+                        } else {
+                            failed = new RsWithStatus(RsStatus.INTERNAL_ERROR)
+                                .send(connection);
+                        }
+                        return failed;
+                    }
+                );
+        }
+    }
+
+    /**
+     * Responses sent one by one: next response is sent when previous one fails
+     * or hedge delay elapses.
+     * @since 1.2
+     */
+    private final class Sequence {
+
+        /**
+         * Origin connection.
+         */
+        private final Connection con;
+
+        /**
+         * Results.
+         */
+        private final GroupResults results;
+
+        /**
+         * Hedge timers.
+         */
+        private final CompositeDisposable timers;
+
+        /**
+         * Sending futures by order.
+         */
+        private final AtomicReferenceArray<CompletableFuture<Void>> sending;
+
+        /**
+         * Number of sent responses.
+         */
+        private final AtomicInteger sent;
+
+        /**
+         * Ctor.
+         * @param con Origin connection
+         * @param results Results
+         * @param timers Hedge timers
+         * @param sending Sending futures by order
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Sequence(final Connection con, final GroupResults results,
+            final CompositeDisposable timers,
+            final AtomicReferenceArray<CompletableFuture<Void>> sending) {
+            this.con = con;
+            this.results = results;
+            this.timers = timers;
+            this.sending = sending;
+            this.sent = new AtomicInteger();
+        }
+
+        /**
+         * Send response if it's next one and group is not completed.
+         * @param pos Response order
+         */
+        void start(final int pos) {
+            if (pos < GroupResponse.this.responses.size()
+                && !this.results.decided().toCompletableFuture().isDone()
+                && this.sent.compareAndSet(pos, pos + 1)) {
+                GroupResponse.this.fanout.hedge().ifPresent(
+                    time -> this.timers.add(
+                        Completable.timer(time.toMillis(), TimeUnit.MILLISECONDS)
+                            .subscribe(() -> this.start(pos + 1))
+                    )
+                );
+                final Connection group = new GroupConnection(this.con, pos, this.results);
+                GroupResponse.this.send(
+                    pos,
+                    (status, headers, body) -> {
+                        final CompletionStage<Void> res = group.accept(status, headers, body);
+                        if (!GroupResult.success(status)) {
+                            this.start(pos + 1);
+                        }
+                        return res;
+                    },
+                    this.results, this.sending
+                );
+            }
+        }
+    }
 }
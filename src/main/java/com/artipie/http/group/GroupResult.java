@@ -105,7 +105,16 @@ final class GroupResult {
      * @return True if success
      */
     public boolean success() {
-        final int code = Integer.parseInt(this.status.code());
+        return GroupResult.success(this.status);
+    }
+
+    /**
+     * Check if response status is success.
+     * @param status Response status
+     * @return True if success
+     */
+    static boolean success(final RsStatus status) {
+        final int code = Integer.parseInt(status.code());
         // @checkstyle MagicNumberCheck (1 line)
         return code >= 200 && code < 300;
     }
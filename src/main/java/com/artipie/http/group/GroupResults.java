@@ -5,25 +5,53 @@
 package com.artipie.http.group;
 
 import com.artipie.http.Connection;
-import com.artipie.http.rs.StandardRs;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import com.artipie.http.Headers;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Group response results aggregator.
- * @implNote This class is not thread safe and should be synchronized
+ * <p>
+ * It's thread safe and lock-free: results are stored in atomic array, the index of
+ * the next expected result moves forward over failed results, so each completion costs
+ * O(1) amortized. The winner is chosen by compare-and-set, so exactly one result is
+ * replied to the connection and all others are cancelled as soon as the winner is
+ * chosen, without waiting for the winner to be replied.
+ * </p>
  * @since 0.11
  */
 final class GroupResults {
 
     /**
-     * List of results.
+     * Results by order.
      */
-    private final List<GroupResult> list;
+    private final AtomicReferenceArray<GroupResult> list;
+
+    /**
+     * Index of the first result which is not known to be failed.
+     */
+    private final AtomicInteger next;
+
+    /**
+     * Number of completed results.
+     */
+    private final AtomicInteger completed;
+
+    /**
+     * Replied result.
+     */
+    private final AtomicReference<GroupResult> winner;
+
+    /**
+     * Not found result to reply if all results failed.
+     */
+    private final GroupResult none;
 
     /**
      * Completion future.
@@ -31,22 +59,29 @@ final class GroupResults {
     private final CompletableFuture<Void> future;
 
     /**
-     * New results aggregator.
-     * @param cap Capacity
-     * @param future Future to complete when all results are done
+     * Future which is completed when the winner is chosen.
      */
-    GroupResults(final int cap, final CompletableFuture<Void> future) {
-        this(new ArrayList<>(Collections.nCopies(cap, null)), future);
-    }
+    private final CompletableFuture<Void> decided;
 
     /**
-     * Primary constructor.
-     * @param list List of results
+     * Race deadline was reached.
+     */
+    private volatile boolean expired;
+
+    /**
+     * New results aggregator.
+     * @param cap Capacity
      * @param future Future to complete when all results are done
      */
-    private GroupResults(final List<GroupResult> list, final CompletableFuture<Void> future) {
-        this.list = list;
+    GroupResults(final int cap, final CompletableFuture<Void> future) {
+        this.list = new AtomicReferenceArray<>(cap);
+        this.next = new AtomicInteger();
+        this.completed = new AtomicInteger();
+        this.winner = new AtomicReference<>();
+        this.none = new GroupResult(RsStatus.NOT_FOUND, Headers.EMPTY, Flowable.empty());
         this.future = future;
+        this.decided = new CompletableFuture<>();
+        future.whenComplete((none, err) -> this.decided.complete(null));
     }
 
     /**
@@ -55,36 +90,136 @@ final class GroupResults {
      * This method checks if the response can be completed. If the result was succeed and
      * all previous ordered results were completed and failed, then the whole response will
      * be replied to the {@link Connection}. If any previous results is not completed, then
-     * this result will be placed in the list to wait all previous results.
+     * this result will be placed in the list to wait all previous results. Repeated
+     * result of the same order is cancelled.
      * </p>
      * @param order Order of result
      * @param result Repayable result
      * @param con Connection to use for replay
      * @return Future
-     * @checkstyle ReturnCountCheck (25 lines)
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
     public CompletionStage<Void> complete(final int order, final GroupResult result,
         final Connection con) {
-        if (this.future.isDone()) {
-            result.cancel();
-            return CompletableFuture.completedFuture(null);
-        }
-        if (order >= this.list.size()) {
+        if (order >= this.list.length()) {
             throw new IllegalStateException("Wrong order of result");
         }
-        this.list.set(order, result);
-        for (int pos = 0; pos < this.list.size(); ++pos) {
+        final CompletionStage<Void> res;
+        if (this.winner.get() == null && this.list.compareAndSet(order, null, result)) {
+            if (this.completed.incrementAndGet() == this.list.length()) {
+                res = this.win(this.first(0).orElse(this.none), con);
+            } else if (this.expired && result.success()) {
+                res = this.win(result, con);
+            } else {
+                res = this.advance(con);
+            }
+        } else {
+            res = CompletableFuture.completedFuture(null);
+        }
+        final GroupResult replied = this.winner.get();
+        if (replied != null && replied != result) {
+            result.cancel();
+        }
+        return res;
+    }
+
+    /**
+     * Race deadline was reached: stop waiting for not completed results.
+     * <p>
+     * The first ordered succeeded result is replied to the connection if any,
+     * otherwise the first result which succeeds later wins.
+     * </p>
+     * @param con Connection to use for replay
+     * @return Future
+     */
+    public CompletionStage<Void> expire(final Connection con) {
+        this.expired = true;
+        return this.first(this.next.get())
+            .map(result -> this.win(result, con))
+            .orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Check if result of the order was completed.
+     * @param order Order of result
+     * @return True if completed
+     */
+    public boolean completed(final int order) {
+        return this.list.get(order) != null;
+    }
+
+    /**
+     * Winner choice.
+     * @return Future which is completed when the result to reply is chosen,
+     *  before it's replied to the connection, or when results future is completed
+     */
+    public CompletionStage<Void> decided() {
+        return this.decided;
+    }
+
+    /**
+     * Move the next expected index over failed results and reply the result
+     * at that index if it succeeded.
+     * @param con Connection to use for replay
+     * @return Future
+     */
+    private CompletionStage<Void> advance(final Connection con) {
+        CompletionStage<Void> res = CompletableFuture.completedFuture(null);
+        int pos = this.next.get();
+        while (pos < this.list.length()) {
             final GroupResult target = this.list.get(pos);
             if (target == null) {
-                return CompletableFuture.completedFuture(null);
+                break;
             }
             if (target.success()) {
-                return target.replay(con).thenRun(
-                    () -> this.list.stream().filter(Objects::nonNull).forEach(GroupResult::cancel)
-                ).thenRun(() -> this.future.complete(null));
+                res = this.win(target, con);
+                break;
+            }
+            this.next.compareAndSet(pos, pos + 1);
+            pos = this.next.get();
+        }
+        return res;
+    }
+
+    /**
+     * First ordered completed success result.
+     * @param from Index to start from
+     * @return Result if found
+     */
+    private Optional<GroupResult> first(final int from) {
+        Optional<GroupResult> res = Optional.empty();
+        for (int pos = from; pos < this.list.length(); ++pos) {
+            final GroupResult target = this.list.get(pos);
+            if (target != null && target.success()) {
+                res = Optional.of(target);
+                break;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Reply result if no other result was replied.
+     * @param result Result to reply
+     * @param con Connection to use for replay
+     * @return Future
+     */
+    private CompletionStage<Void> win(final GroupResult result, final Connection con) {
+        final CompletionStage<Void> res;
+        if (this.winner.compareAndSet(null, result)) {
+            for (int pos = 0; pos < this.list.length(); ++pos) {
+                final GroupResult target = this.list.get(pos);
+                if (target != null && target != result) {
+                    target.cancel();
+                }
+            }
+            this.decided.complete(null);
+            res = result.replay(con).thenRun(() -> this.future.complete(null));
+        } else {
+            if (this.winner.get() != result) {
+                result.cancel();
             }
+            res = CompletableFuture.completedFuture(null);
         }
-        return StandardRs.NOT_FOUND.send(con).thenRun(() -> this.future.complete(null));
+        return res;
     }
 }
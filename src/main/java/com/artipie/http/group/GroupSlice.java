@@ -8,18 +8,33 @@ import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.StandardRs;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.reactivestreams.Publisher;
 
 /**
  * Standard group {@link Slice} implementation.
+ * <p>
+ * Read requests are sent to all targets at once, the response of the first target
+ * by order which responded with success is used. By default the group waits for all
+ * earlier ordered targets, so one slow target delays the whole group. With a race
+ * deadline the order is honored only among targets which responded within the deadline,
+ * after it the first succeeded target wins and other responses are cancelled.
+ * Sequential and hedged {@link Fanout} modes request targets one by one to reduce
+ * backend load. Targets which recently responded with {@code 404} to {@code GET} or
+ * {@code HEAD} request of the path can be skipped using {@link NegativeCache}, entries
+ * of the first target are invalidated by write requests.
+ * </p>
  *
  * @since 0.11
  */
@@ -29,10 +44,8 @@ public final class GroupSlice implements Slice {
      * Methods to broadcast to all target slices.
      */
     private static final Set<RqMethod> BROADCAST_METHODS = Collections.unmodifiableSet(
-        new HashSet<>(
-            Arrays.asList(
-                RqMethod.GET, RqMethod.HEAD, RqMethod.OPTIONS, RqMethod.CONNECT, RqMethod.TRACE
-            )
+        EnumSet.of(
+            RqMethod.GET, RqMethod.HEAD, RqMethod.OPTIONS, RqMethod.CONNECT, RqMethod.TRACE
         )
     );
 
@@ -41,6 +54,21 @@ public final class GroupSlice implements Slice {
      */
     private final List<Slice> targets;
 
+    /**
+     * Race deadline, empty to wait for all earlier ordered targets.
+     */
+    private final Optional<Duration> deadline;
+
+    /**
+     * Fan-out mode.
+     */
+    private final Fanout fanout;
+
+    /**
+     * Cache of not found responses.
+     */
+    private final NegativeCache negative;
+
     /**
      * New group slice.
      * @param targets Slices to group
@@ -54,23 +82,137 @@ public final class GroupSlice implements Slice {
      * @param targets Slices to group
      */
     public GroupSlice(final List<Slice> targets) {
+        this(Fanout.BROADCAST, targets);
+    }
+
+    /**
+     * New group slice with race deadline.
+     * @param deadline Time to honor targets order, the first succeeded target
+     *  wins after it
+     * @param targets Slices to group
+     */
+    public GroupSlice(final Duration deadline, final Slice... targets) {
+        this(deadline, Arrays.asList(targets));
+    }
+
+    /**
+     * New group slice with race deadline.
+     * @param deadline Time to honor targets order, the first succeeded target
+     *  wins after it
+     * @param targets Slices to group
+     */
+    public GroupSlice(final Duration deadline, final List<Slice> targets) {
+        this(Optional.of(deadline), Fanout.BROADCAST, NegativeCache.DISABLED, targets);
+    }
+
+    /**
+     * New group slice with fan-out mode.
+     * @param fanout Fan-out mode
+     * @param targets Slices to group
+     */
+    public GroupSlice(final Fanout fanout, final List<Slice> targets) {
+        this(fanout, NegativeCache.DISABLED, targets);
+    }
+
+    /**
+     * New group slice with fan-out mode and cache of not found responses.
+     * @param fanout Fan-out mode
+     * @param negative Cache of not found responses
+     * @param targets Slices to group
+     */
+    public GroupSlice(final Fanout fanout, final NegativeCache negative,
+        final List<Slice> targets) {
+        this(Optional.empty(), fanout, negative, targets);
+    }
+
+    /**
+     * New group slice with fan-out mode and race deadline.
+     * @param fanout Fan-out mode
+     * @param deadline Time to honor targets order, the first succeeded target
+     *  wins after it
+     * @param targets Slices to group
+     */
+    public GroupSlice(final Fanout fanout, final Duration deadline, final List<Slice> targets) {
+        this(Optional.of(deadline), fanout, NegativeCache.DISABLED, targets);
+    }
+
+    /**
+     * Primary constructor.
+     * @param deadline Race deadline
+     * @param fanout Fan-out mode
+     * @param negative Cache of not found responses
+     * @param targets Slices to group
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private GroupSlice(final Optional<Duration> deadline, final Fanout fanout,
+        final NegativeCache negative, final List<Slice> targets) {
         this.targets = Collections.unmodifiableList(targets);
+        this.deadline = deadline;
+        this.fanout = fanout;
+        this.negative = negative;
     }
 
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
         final Response rsp;
-        final RqMethod method = new RequestLineFrom(line).method();
+        final RequestLineFrom rqline = new RequestLineFrom(line);
+        final RqMethod method = rqline.method();
+        final String path = rqline.uri().toString();
         if (GroupSlice.BROADCAST_METHODS.contains(method)) {
-            rsp = new GroupResponse(
-                this.targets.stream()
-                    .map(slice -> slice.response(line, headers, body))
-                    .collect(Collectors.toList())
-            );
+            final boolean read = method == RqMethod.GET || method == RqMethod.HEAD;
+            final List<Response> responses = new ArrayList<>(this.targets.size());
+            for (int pos = 0; pos < this.targets.size(); ++pos) {
+                final Slice slice = this.targets.get(pos);
+                final int idx = pos;
+                if (read && this.negative.contains(idx, path)) {
+                    responses.add(StandardRs.NOT_FOUND);
+                } else if (this.fanout.broadcast()) {
+                    responses.add(
+                        this.recorded(idx, path, read, slice.response(line, headers, body))
+                    );
+                } else {
+                    responses.add(
+                        connection -> this.recorded(
+                            idx, path, read, slice.response(line, headers, body)
+                        ).send(connection)
+                    );
+                }
+            }
+            rsp = new GroupResponse(responses, this.deadline, this.fanout);
         } else {
-            rsp = this.targets.get(0).response(line, headers, body);
+            this.negative.invalidate(0, path);
+            final Response origin = this.targets.get(0).response(line, headers, body);
+            rsp = connection -> origin.send(connection)
+                .thenRun(() -> this.negative.invalidate(0, path));
         }
         return rsp;
     }
+
+    /**
+     * Response which puts not found status of read request to the negative cache.
+     * @param target Target index
+     * @param path Request path
+     * @param read Read request
+     * @param origin Target response
+     * @return Response
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Response recorded(final int target, final String path, final boolean read,
+        final Response origin) {
+        final Response res;
+        if (read) {
+            res = connection -> origin.send(
+                (status, headers, body) -> {
+                    if (status == RsStatus.NOT_FOUND) {
+                        this.negative.put(target, path);
+                    }
+                    return connection.accept(status, headers, body);
+                }
+            );
+        } else {
+            res = origin;
+        }
+        return res;
+    }
 }
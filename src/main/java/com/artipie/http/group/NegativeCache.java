@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of group targets which recently responded with {@code 404 Not Found}.
+ * <p>
+ * Entries are keyed by target index and request path, they expire after time to live,
+ * least recently used entries are evicted when the cache is full. {@link GroupSlice}
+ * doesn't request targets which have entries for the path. Cache is backed by concurrent
+ * map, so lookups of group members don't contend on a lock. Cache with zero size or time
+ * to live is disabled: it doesn't build keys and doesn't access the map.
+ * </p>
+ * @since 1.2
+ */
+public final class NegativeCache {
+
+    /**
+     * Disabled cache.
+     */
+    static final NegativeCache DISABLED = new NegativeCache(0, Duration.ZERO);
+
+    /**
+     * Cache is enabled.
+     */
+    private final boolean enabled;
+
+    /**
+     * Not found entries by key.
+     */
+    private final Cache<String, Boolean> entries;
+
+    /**
+     * Ctor.
+     * @param size Max number of entries
+     * @param ttl Time to live of entries
+     */
+    public NegativeCache(final int size, final Duration ttl) {
+        this.enabled = size > 0 && !ttl.isNegative() && !ttl.isZero();
+        this.entries = CacheBuilder.newBuilder()
+            .maximumSize(Math.max(size, 0))
+            .expireAfterWrite(Math.max(ttl.toNanos(), 0L), TimeUnit.NANOSECONDS)
+            .build();
+    }
+
+    /**
+     * Check if target recently responded with not found.
+     * @param target Target index
+     * @param path Request path
+     * @return True if cached
+     */
+    boolean contains(final int target, final String path) {
+        return this.enabled
+            && this.entries.getIfPresent(NegativeCache.key(target, path)) != null;
+    }
+
+    /**
+     * Remember not found response of the target.
+     * @param target Target index
+     * @param path Request path
+     */
+    void put(final int target, final String path) {
+        if (this.enabled) {
+            this.entries.put(NegativeCache.key(target, path), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Forget not found response of the target.
+     * @param target Target index
+     * @param path Request path
+     */
+    void invalidate(final int target, final String path) {
+        if (this.enabled) {
+            this.entries.invalidate(NegativeCache.key(target, path));
+        }
+    }
+
+    /**
+     * Cache key.
+     * @param target Target index
+     * @param path Request path
+     * @return Key
+     */
+    private static String key(final int target, final String path) {
+        // @checkstyle MagicNumberCheck (1 line)
+        return new StringBuilder(path.length() + 12)
+            .append(target).append(' ').append(path).toString();
+    }
+}
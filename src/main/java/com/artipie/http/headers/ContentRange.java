@@ -0,0 +1,47 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.headers;
+
+/**
+ * Content-Range header.
+ *
+ * @since 1.2
+ */
+public final class ContentRange extends Header.Wrap {
+
+    /**
+     * Header name.
+     */
+    public static final String NAME = "Content-Range";
+
+    /**
+     * Content-Range header of satisfied byte range.
+     *
+     * @param start First byte position
+     * @param end Last byte position, inclusive
+     * @param size Complete length of the content
+     */
+    public ContentRange(final long start, final long end, final long size) {
+        this(String.format("bytes %d-%d/%d", start, end, size));
+    }
+
+    /**
+     * Content-Range header of unsatisfied range.
+     *
+     * @param size Complete length of the content
+     */
+    public ContentRange(final long size) {
+        this(String.format("bytes */%d", size));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param value Header value
+     */
+    public ContentRange(final String value) {
+        super(new Header(ContentRange.NAME, value));
+    }
+}
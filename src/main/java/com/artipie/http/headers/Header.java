@@ -11,6 +11,10 @@ import java.util.Objects;
 /**
  * HTTP header.
  * Name of header is considered to be case-insensitive when compared to one another.
+ * <p>
+ * Leading whitespaces of the value are removed once on construction,
+ * lower case name is computed once on first comparison.
+ * </p>
  *
  * @since 0.8
  */
@@ -22,10 +26,15 @@ public final class Header implements Map.Entry<String, String> {
     private final String name;
 
     /**
-     * Value.
+     * Value without leading whitespaces.
      */
     private final String value;
 
+    /**
+     * Name in lower case, computed on first access.
+     */
+    private String lowercase;
+
     /**
      * Ctor.
      *
@@ -43,7 +52,7 @@ public final class Header implements Map.Entry<String, String> {
      */
     public Header(final String name, final String value) {
         this.name = name;
-        this.value = value;
+        this.value = Header.trimLeading(value);
     }
 
     @Override
@@ -53,7 +62,7 @@ public final class Header implements Map.Entry<String, String> {
 
     @Override
     public String getValue() {
-        return this.value.replaceAll("^\\s+", "");
+        return this.value;
     }
 
     @Override
@@ -72,17 +81,17 @@ public final class Header implements Map.Entry<String, String> {
         }
         final Header header = (Header) that;
         return this.lowercaseName().equals(header.lowercaseName())
-            && this.getValue().equals(header.getValue());
+            && this.value.equals(header.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.lowercaseName(), this.getValue());
+        return 31 * this.lowercaseName().hashCode() + this.value.hashCode();
     }
 
     @Override
     public String toString() {
-        return String.format("%s: %s", this.name, this.getValue());
+        return String.format("%s: %s", this.name, this.value);
     }
 
     /**
@@ -91,7 +100,43 @@ public final class Header implements Map.Entry<String, String> {
      * @return Name in lowercase.
      */
     private String lowercaseName() {
-        return this.name.toLowerCase(Locale.US);
+        String res = this.lowercase;
+        if (res == null) {
+            res = this.name.toLowerCase(Locale.US);
+            this.lowercase = res;
+        }
+        return res;
+    }
+
+    /**
+     * Remove leading whitespaces from the value.
+     *
+     * @param value Value
+     * @return Value without leading whitespaces, same instance if there are no ones
+     */
+    private static String trimLeading(final String value) {
+        int pos = 0;
+        while (pos < value.length() && Header.whitespace(value.charAt(pos))) {
+            ++pos;
+        }
+        final String res;
+        if (pos == 0) {
+            res = value;
+        } else {
+            res = value.substring(pos);
+        }
+        return res;
+    }
+
+    /**
+     * Check if char is a whitespace, same as {@code \s} regular expression class.
+     *
+     * @param chr Char
+     * @return True if whitespace
+     */
+    private static boolean whitespace(final char chr) {
+        return chr == ' ' || chr == '\t' || chr == '\n' || chr == '\u000B'
+            || chr == '\f' || chr == '\r';
     }
 
     /**
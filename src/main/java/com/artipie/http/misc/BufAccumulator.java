@@ -11,6 +11,10 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * ByteBuffer accumulator.
+ * <p>
+ * Buffers are acquired from the pool and released back to it when the accumulator
+ * grows or closes, so duplicates of the buffer must not be used after write or close.
+ * </p>
  *
  * @implNote This class is not thread safe
  * @since 1.0
@@ -19,6 +23,11 @@ import javax.annotation.concurrent.NotThreadSafe;
 @SuppressWarnings("PMD.TooManyMethods")
 public final class BufAccumulator implements ReadableByteChannel, WritableByteChannel {
 
+    /**
+     * Buffer pool.
+     */
+    private final ByteBufferPool pool;
+
     /**
      * Buffer.
      */
@@ -30,7 +39,19 @@ public final class BufAccumulator implements ReadableByteChannel, WritableByteCh
      * @param cap Initial capacity
      */
     public BufAccumulator(final int cap) {
-        this.buffer = BufAccumulator.newEmptyBuffer(cap);
+        this(cap, ByteBufferPool.HEAP);
+    }
+
+    /**
+     * Create buffer with initial capacity from the pool.
+     *
+     * @param cap Initial capacity
+     * @param pool Buffer pool
+     */
+    public BufAccumulator(final int cap, final ByteBufferPool pool) {
+        this.pool = pool;
+        this.buffer = pool.acquire(cap);
+        this.buffer.limit(0);
     }
 
     /**
@@ -114,7 +135,7 @@ public final class BufAccumulator implements ReadableByteChannel, WritableByteCh
             this.buffer.put(src);
         } else {
             final int cap = Math.max(this.buffer.capacity(), src.capacity()) * 2;
-            final ByteBuffer resized = ByteBuffer.allocate(cap);
+            final ByteBuffer resized = this.pool.acquire(cap);
             final int pos = this.buffer.position();
             final int lim = this.buffer.limit();
             this.buffer.flip();
@@ -122,6 +143,7 @@ public final class BufAccumulator implements ReadableByteChannel, WritableByteCh
             resized.limit(lim + size);
             resized.position(pos);
             resized.put(src);
+            this.pool.release(this.buffer);
             this.buffer = resized;
         }
         return size;
@@ -152,6 +174,7 @@ public final class BufAccumulator implements ReadableByteChannel, WritableByteCh
     @SuppressWarnings("PMD.NullAssignment")
     public void close() {
         this.check();
+        this.pool.release(this.buffer);
         // @checkstyle MethodBodyCommentsCheck (1 lines)
         // assign to null means broken state, it's verified by `check` method.
         this.buffer = null;
@@ -168,16 +191,4 @@ public final class BufAccumulator implements ReadableByteChannel, WritableByteCh
     private void check() {
         assert this.buffer != null : "tokenizer was closed";
     }
-
-    /**
-     * Creates new empty buffer with zero position and limit.
-     *
-     * @param cap Capacity
-     * @return New buffer
-     */
-    private static ByteBuffer newEmptyBuffer(final int cap) {
-        final ByteBuffer buf = ByteBuffer.allocate(cap);
-        buf.flip();
-        return buf;
-    }
 }
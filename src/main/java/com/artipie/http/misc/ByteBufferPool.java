@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Pool of byte buffers.
+ * <p>
+ * Acquired buffer has zero position, limit equal to requested size and capacity which
+ * is not less than requested size. The buffer can be released back to the pool when it's
+ * not used anymore: released buffer, its duplicates and slices must not be used after
+ * release, and it must not be released twice. Buffers which are not released
+ * are collected by GC as usual.
+ * </p>
+ * @since 1.2
+ */
+public interface ByteBufferPool {
+
+    /**
+     * Pool which allocates new heap buffer on each acquire.
+     */
+    ByteBufferPool UNPOOLED = new Unpooled();
+
+    /**
+     * Shared pool of heap buffers.
+     */
+    ByteBufferPool HEAP = new SizeClassPool(false);
+
+    /**
+     * Acquire buffer.
+     * @param size Required size
+     * @return Buffer with zero position and limit equal to size
+     */
+    ByteBuffer acquire(int size);
+
+    /**
+     * Release buffer to the pool.
+     * @param buf Buffer which is not used anymore
+     */
+    void release(ByteBuffer buf);
+
+    /**
+     * Pool which doesn't reuse buffers.
+     * @since 1.2
+     */
+    final class Unpooled implements ByteBufferPool {
+
+        @Override
+        public ByteBuffer acquire(final int size) {
+            return ByteBuffer.allocate(size);
+        }
+
+        @Override
+        public void release(final ByteBuffer buf) {
+            // nothing to do, buffer is collected by GC
+        }
+    }
+}
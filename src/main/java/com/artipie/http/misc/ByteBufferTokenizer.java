@@ -23,6 +23,14 @@ import javax.annotation.concurrent.NotThreadSafe;
  * <br/>
  * When chunk stream is ended, tokenizer should be notified with {@code close}
  * method, it will flush the buffer to receiver if any temporary state exist.
+ * <br/>
+ * The delimiter is searched in place in the buffer using Boyer-Moore-Horspool algorithm,
+ * so only new bytes and the kept part of previous chunk are scanned on each push.
+ * <br/>
+ * In slices mode the chunks are not copied to the buffer: tokens are sent to receiver
+ * as read-only slices of pushed chunks, only the bytes kept from previous chunk
+ * are copied. Slices share memory with the chunks, so this mode can be used only if
+ * chunks are not modified until the receiver processes the slices.
  * </p>
  *
  * @implNote This class is not thread safe, the access to push and close
@@ -50,6 +58,11 @@ public final class ByteBufferTokenizer implements Closeable {
      */
     private final byte[] delim;
 
+    /**
+     * Horspool skip table by byte value.
+     */
+    private final int[] skip;
+
     /**
      * Tokens receiver.
      */
@@ -60,6 +73,16 @@ public final class ByteBufferTokenizer implements Closeable {
      */
     private final BufAccumulator acc;
 
+    /**
+     * Send slices of chunks to receiver instead of copies.
+     */
+    private final boolean slices;
+
+    /**
+     * Some chunks of current token were sent to receiver in slices mode.
+     */
+    private boolean started;
+
     /**
      * New tokenizer.
      *
@@ -78,9 +101,25 @@ public final class ByteBufferTokenizer implements Closeable {
      * @param cap Initial capacity
      */
     public ByteBufferTokenizer(final Receiver receiver, final byte[] delim, final int cap) {
+        this(receiver, delim, cap, false);
+    }
+
+    /**
+     * New tokenizer with specified initial capacity of buffer and slices mode.
+     *
+     * @param receiver Tokens receiver
+     * @param delim Delimiter
+     * @param cap Initial capacity
+     * @param slices Send read-only slices of pushed chunks to receiver instead of copies
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ByteBufferTokenizer(final Receiver receiver, final byte[] delim, final int cap,
+        final boolean slices) {
         this.receiver = receiver;
         this.delim = Arrays.copyOf(delim, delim.length);
+        this.skip = ByteBufferTokenizer.skipTable(this.delim);
         this.acc = new BufAccumulator(cap);
+        this.slices = slices;
     }
 
     /**
@@ -88,17 +127,38 @@ public final class ByteBufferTokenizer implements Closeable {
      *
      * @param chunk Next chunk
      */
-    @SuppressWarnings("PMD.AssignmentInOperand")
     public void push(final ByteBuffer chunk) {
+        if (this.slices) {
+            this.pushSlices(chunk);
+        } else {
+            this.pushCopy(chunk);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.NullAssignment")
+    public void close() {
+        this.flush();
+        this.acc.close();
+    }
+
+    /**
+     * Push next chunk to buffer and send copies of tokens to receiver.
+     *
+     * @param chunk Next chunk
+     */
+    @SuppressWarnings("PMD.AssignmentInOperand")
+    private void pushCopy(final ByteBuffer chunk) {
         if (this.acc.write(chunk) <= 0) {
             return;
         }
-        final byte[] arr = this.acc.array();
+        final ByteBuffer buf = this.acc.duplicate();
+        final int size = this.acc.size();
         // bid is a next boundary id, offset is current offset of token + boundary
         int bid;
         int offset = 0;
         // find next boundary token with offset as `bid`
-        while ((bid = indexOf(offset, arr, this.delim)) >= 0) {
+        while ((bid = this.indexOf(offset, buf, size)) >= 0) {
             if (bid == 0) {
                 // if boundary seq is a head, then next token is and empty token
                 this.receiver.receive(ByteBufferTokenizer.EMPTY_BUF, true);
@@ -114,7 +174,7 @@ public final class ByteBufferTokenizer implements Closeable {
         // if next delimiter was not found, then try to send save range of bytes to receiver,
         // since it may contain next delimiter partially, then safe range is a:
         // (buffer-length - (delimiter - 1))
-        final int margin = arr.length - this.delim.length + 1;
+        final int margin = size - this.delim.length + 1;
         if (margin > 0) {
             if (offset < margin) {
                 // if there are some bytes between last offset and margin, then send it
@@ -129,11 +189,102 @@ public final class ByteBufferTokenizer implements Closeable {
         }
     }
 
-    @Override
-    @SuppressWarnings("PMD.NullAssignment")
-    public void close() {
-        this.flush();
-        this.acc.close();
+    /**
+     * Push next chunk and send slices of tokens to receiver.
+     * <p>
+     * Positions are counted in the sequence of bytes kept in the buffer (tail) followed
+     * by the chunk. Delimiter which starts in the tail is searched in the buffer with
+     * appended chunk prefix shorter than delimiter, others are searched in the chunk.
+     * Only bytes which may start next delimiter are kept in the buffer after push.
+     * </p>
+     *
+     * @param chunk Next chunk
+     */
+    @SuppressWarnings("PMD.AssignmentInOperand")
+    private void pushSlices(final ByteBuffer chunk) {
+        final ByteBuffer src = chunk.slice();
+        final int size = src.remaining();
+        if (size == 0) {
+            return;
+        }
+        final int tail = this.acc.size();
+        final int prefix = Math.min(size, this.delim.length - 1);
+        final ByteBuffer head = src.duplicate();
+        head.limit(prefix);
+        this.acc.write(head);
+        int offset = 0;
+        if (tail > 0) {
+            final int bid = this.indexOf(0, this.acc.duplicate(), this.acc.size());
+            if (bid >= 0 && bid < tail) {
+                this.emit(src, tail, 0, bid, true);
+                offset = bid + this.delim.length;
+            }
+        }
+        int bid;
+        while ((bid = this.indexOf(Math.max(offset - tail, 0), src, size)) >= 0) {
+            this.emit(src, tail, offset, tail + bid, true);
+            offset = tail + bid + this.delim.length;
+        }
+        final int margin = tail + size - this.delim.length + 1;
+        final int keep;
+        if (margin > offset) {
+            this.emit(src, tail, offset, margin, false);
+            keep = margin;
+        } else {
+            keep = offset;
+        }
+        if (prefix == size) {
+            // buffer contains the tail and whole chunk
+            this.acc.drop(keep);
+        } else {
+            // kept bytes are in the chunk, since it's not shorter than delimiter
+            this.acc.drop(this.acc.size());
+            final ByteBuffer rest = src.duplicate();
+            rest.position(keep - tail);
+            this.acc.write(rest);
+        }
+    }
+
+    /**
+     * Send range of tail and chunk sequence to receiver: the part of the tail is copied
+     * from the buffer, the part of chunk is sliced. The first chunk of token which starts
+     * in the tail is copied as whole.
+     *
+     * @param src Chunk
+     * @param tail Tail size
+     * @param from Start of range
+     * @param to End of range
+     * @param end True if the end of token
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void emit(final ByteBuffer src, final int tail, final int from, final int to,
+        final boolean end) {
+        if (from == to) {
+            this.receiver.receive(ByteBufferTokenizer.EMPTY_BUF, true);
+        } else if (from < tail && to > tail && !this.started) {
+            // the first chunk of token is sent as is, since receivers may check
+            // token start, e.g. multipart epilogue
+            final ByteBuffer part = src.duplicate();
+            part.limit(to - tail);
+            final ByteBuffer first = ByteBuffer.allocate(to - from);
+            first.put(this.acc.copyRange(from, tail));
+            first.put(part);
+            first.flip();
+            this.receiver.receive(first.asReadOnlyBuffer(), end);
+        } else {
+            if (from < tail) {
+                this.receiver.receive(
+                    this.acc.copyRange(from, Math.min(to, tail)), end && to <= tail
+                );
+            }
+            if (to > tail) {
+                final ByteBuffer part = src.duplicate();
+                part.limit(to - tail);
+                part.position(Math.max(from, tail) - tail);
+                this.receiver.receive(part.slice().asReadOnlyBuffer(), end);
+            }
+        }
+        this.started = !end;
     }
 
     /**
@@ -149,31 +300,53 @@ public final class ByteBufferTokenizer implements Closeable {
         } else {
             this.receiver.receive(ByteBufferTokenizer.EMPTY_BUF, true);
         }
+        this.started = false;
     }
 
     /**
-     * Finds index of token in array starting with offset.
+     * Finds index of delimiter in buffer starting with offset.
+     * <p>
+     * Delimiter is compared from the end, on mismatch the search window is shifted
+     * by skip distance of the last byte in the window.
+     * </p>
      *
      * @param offset Offset to start
-     * @param array Source array
-     * @param token Token to find
-     * @return Position of token or -1 if not found
+     * @param buf Source buffer, absolute positions are used
+     * @param size Number of bytes in buffer
+     * @return Position of delimiter or -1 if not found
      */
-    private static int indexOf(final int offset, final byte[] array, final byte[] token) {
+    private int indexOf(final int offset, final ByteBuffer buf, final int size) {
+        final int last = this.delim.length - 1;
         int res = -1;
-        // @checkstyle LocalVariableNameCheck (10 lines)
-        TOP: for (int i = offset; i < array.length - token.length + 1; ++i) {
-            boolean found = true;
-            for (int j = 0; j < token.length; ++j) {
-                if (array[i + j] != token[j]) {
-                    found = false;
-                    break;
-                }
+        int pos = offset;
+        while (pos + last < size) {
+            int idx = last;
+            while (idx >= 0 && buf.get(pos + idx) == this.delim[idx]) {
+                --idx;
             }
-            if (found) {
-                res = i;
-                break TOP;
+            if (idx < 0) {
+                res = pos;
+                break;
             }
+            pos += this.skip[buf.get(pos + last) & 0xff];
+        }
+        return res;
+    }
+
+    /**
+     * Horspool skip table: distance from the last occurrence of the byte in delimiter,
+     * excluding the last byte, to the end of delimiter, or delimiter length if it doesn't
+     * occur.
+     *
+     * @param delim Delimiter
+     * @return Skip distances by unsigned byte value
+     * @checkstyle MagicNumberCheck (10 lines)
+     */
+    private static int[] skipTable(final byte[] delim) {
+        final int[] res = new int[256];
+        Arrays.fill(res, delim.length);
+        for (int idx = 0; idx < delim.length - 1; ++idx) {
+            res[delim[idx] & 0xff] = delim.length - 1 - idx;
         }
         return res;
     }
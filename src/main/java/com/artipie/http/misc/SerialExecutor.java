@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import com.jcabi.log.Logger;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor which runs tasks one by one in submission order without own threads.
+ * <p>
+ * Tasks are drained by the thread which submitted a task when no other thread
+ * is draining, or by the origin executor if specified. Tasks submitted while draining,
+ * e.g. from reactive {@code onNext} and {@code request} calls of the running task,
+ * are queued and run after the running task instead of recursive call.
+ * The executor doesn't hold any resources, so it doesn't need to be shut down.
+ * </p>
+ * @since 1.2
+ */
+public final class SerialExecutor implements Executor {
+
+    /**
+     * Origin executor to drain tasks.
+     */
+    private final Executor origin;
+
+    /**
+     * Task queue.
+     */
+    private final Queue<Runnable> tasks;
+
+    /**
+     * Work in progress counter.
+     */
+    private final AtomicInteger wip;
+
+    /**
+     * Serial executor which runs tasks on the submitting thread.
+     */
+    public SerialExecutor() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Serial executor which runs tasks on origin executor,
+     * e.g. shared bounded thread pool.
+     * @param origin Origin executor
+     */
+    public SerialExecutor(final Executor origin) {
+        this.origin = origin;
+        this.tasks = new ConcurrentLinkedQueue<>();
+        this.wip = new AtomicInteger();
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        this.tasks.add(task);
+        if (this.wip.getAndIncrement() == 0) {
+            this.origin.execute(this::drain);
+        }
+    }
+
+    /**
+     * Run queued tasks until the queue is empty.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void drain() {
+        int missed = 1;
+        while (missed != 0) {
+            Runnable task = this.tasks.poll();
+            while (task != null) {
+                try {
+                    task.run();
+                } catch (final RuntimeException err) {
+                    Logger.warn(this, "Task failed: %[exception]s", err);
+                }
+                task = this.tasks.poll();
+            }
+            missed = this.wip.addAndGet(-missed);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Byte buffer pool with power of two size classes.
+ * <p>
+ * Buffers from 256 bytes to max pooled size are rounded up to the power of two,
+ * larger buffers are not pooled. Released buffers are cached by the releasing thread
+ * first, if thread cache of the size class is full, they are cached in shared bounded
+ * queue, otherwise dropped. Acquire looks up the thread cache and then shared queue,
+ * so buffers released by other threads are reused too.
+ * </p>
+ * @since 1.2
+ */
+public final class SizeClassPool implements ByteBufferPool {
+
+    /**
+     * Shift of the smallest size class: 256 bytes.
+     */
+    private static final int MIN_SHIFT = 8;
+
+    /**
+     * Default max pooled size: 64 KB.
+     */
+    private static final int MAX_DEFAULT = 64 * 1024;
+
+    /**
+     * Default number of buffers cached for each size class by each thread.
+     */
+    private static final int DEPTH_DEFAULT = 16;
+
+    /**
+     * Direct buffers.
+     */
+    private final boolean direct;
+
+    /**
+     * Max number of cached buffers for each size class by each thread and in shared queue.
+     */
+    private final int depth;
+
+    /**
+     * Thread caches by size class.
+     */
+    private final ThreadLocal<List<Deque<ByteBuffer>>> local;
+
+    /**
+     * Shared caches by size class.
+     */
+    private final List<Queue<ByteBuffer>> shared;
+
+    /**
+     * Shared caches sizes by size class.
+     */
+    private final AtomicIntegerArray sizes;
+
+    /**
+     * Pool with default size limit and depth.
+     * @param direct Direct buffers
+     */
+    public SizeClassPool(final boolean direct) {
+        this(direct, SizeClassPool.MAX_DEFAULT, SizeClassPool.DEPTH_DEFAULT);
+    }
+
+    /**
+     * Ctor.
+     * @param direct Direct buffers
+     * @param max Max pooled buffer size, rounded up to the power of two
+     * @param depth Max number of cached buffers for each size class by each thread
+     *  and in shared cache
+     */
+    public SizeClassPool(final boolean direct, final int max, final int depth) {
+        this.direct = direct;
+        this.depth = depth;
+        final int classes = SizeClassPool.sizeClass(max) + 1;
+        this.local = ThreadLocal.withInitial(
+            () -> {
+                final List<Deque<ByteBuffer>> res = new ArrayList<>(classes);
+                for (int cls = 0; cls < classes; ++cls) {
+                    res.add(new ArrayDeque<>(depth));
+                }
+                return res;
+            }
+        );
+        this.shared = new ArrayList<>(classes);
+        for (int cls = 0; cls < classes; ++cls) {
+            this.shared.add(new ConcurrentLinkedQueue<>());
+        }
+        this.sizes = new AtomicIntegerArray(classes);
+    }
+
+    @Override
+    public ByteBuffer acquire(final int size) {
+        final int cls = SizeClassPool.sizeClass(size);
+        ByteBuffer res = null;
+        if (cls < this.shared.size()) {
+            res = this.local.get().get(cls).pollFirst();
+            if (res == null) {
+                res = this.shared.get(cls).poll();
+                if (res != null) {
+                    this.sizes.decrementAndGet(cls);
+                }
+            }
+            if (res == null) {
+                res = this.allocate(1 << (cls + SizeClassPool.MIN_SHIFT));
+            }
+        } else {
+            res = this.allocate(size);
+        }
+        res.clear();
+        res.limit(size);
+        return res;
+    }
+
+    @Override
+    public void release(final ByteBuffer buf) {
+        final int cap = buf.capacity();
+        final int cls = SizeClassPool.sizeClass(cap);
+        if (buf.isDirect() == this.direct && !buf.isReadOnly() && cls < this.shared.size()
+            && cap == 1 << (cls + SizeClassPool.MIN_SHIFT)) {
+            buf.clear();
+            final Deque<ByteBuffer> cache = this.local.get().get(cls);
+            if (cache.size() < this.depth) {
+                cache.offerFirst(buf);
+            } else if (this.sizes.incrementAndGet(cls) <= this.depth) {
+                this.shared.get(cls).offer(buf);
+            } else {
+                this.sizes.decrementAndGet(cls);
+            }
+        }
+    }
+
+    /**
+     * Allocate new buffer.
+     * @param cap Capacity
+     * @return Buffer
+     */
+    private ByteBuffer allocate(final int cap) {
+        final ByteBuffer res;
+        if (this.direct) {
+            res = ByteBuffer.allocateDirect(cap);
+        } else {
+            res = ByteBuffer.allocate(cap);
+        }
+        return res;
+    }
+
+    /**
+     * Size class of the buffer size.
+     * @param size Buffer size
+     * @return Size class index, the capacity of the class is {@code 1 << (index + 8)}
+     * @checkstyle MagicNumberCheck (5 lines)
+     */
+    private static int sizeClass(final int size) {
+        return Math.max(
+            0, 32 - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1) - SizeClassPool.MIN_SHIFT
+        );
+    }
+}
@@ -13,6 +13,11 @@ import org.reactivestreams.Subscription;
 
 /**
  * Byte buffer publisher processor tokenizer as a flat publisher of byte buffers.
+ * <p>
+ * Tokens which are received from tokenizer at once are sent to downstream as is,
+ * only tokens received by chunks are accumulated. In slices mode tokens are read-only
+ * slices of upstream buffers, so it can be used only if upstream doesn't reuse buffers.
+ * </p>
  *
  * @since 1.0
  */
@@ -68,7 +73,19 @@ public final class TokenizerFlatProc implements Processor<ByteBuffer, ByteBuffer
      * @param cap Buffer capacity in bytes
      */
     public TokenizerFlatProc(final String delim, final int cap) {
-        this.tokenizer = new ByteBufferTokenizer(this, delim.getBytes(StandardCharsets.US_ASCII));
+        this(delim, cap, false);
+    }
+
+    /**
+     * New tokenizer processor.
+     * @param delim Delimiter token
+     * @param cap Buffer capacity in bytes
+     * @param slices Send slices of upstream buffers instead of copies
+     */
+    public TokenizerFlatProc(final String delim, final int cap, final boolean slices) {
+        this.tokenizer = new ByteBufferTokenizer(
+            this, delim.getBytes(StandardCharsets.US_ASCII), cap, slices
+        );
         this.accumulator = new BufAccumulator(cap);
         this.completed = new AtomicBoolean();
         this.lock = new Object();
@@ -123,16 +140,23 @@ public final class TokenizerFlatProc implements Processor<ByteBuffer, ByteBuffer
     @Override
     public void receive(final ByteBuffer next, final boolean end) {
         this.upstream.receive();
-        this.accumulator.write(next);
         if (end) {
-            final ByteBuffer dst = ByteBuffer.allocate(this.accumulator.size());
-            this.accumulator.read(dst);
-            dst.flip();
+            final ByteBuffer dst;
+            if (this.accumulator.empty()) {
+                dst = next;
+            } else {
+                this.accumulator.write(next);
+                dst = ByteBuffer.allocate(this.accumulator.size());
+                this.accumulator.read(dst);
+                dst.flip();
+            }
             this.downstream.onNext(dst);
             if (this.completed.get()) {
                 this.downstream.onComplete();
                 this.accumulator.close();
             }
+        } else {
+            this.accumulator.write(next);
         }
     }
 
@@ -6,6 +6,7 @@
 package com.artipie.http.rq;
 
 import java.net.URI;
+import java.util.Optional;
 
 /**
  * Request line helper object.
@@ -22,6 +23,11 @@ import java.net.URI;
  * <p>
  * {@code Request-Line = Method SP Request-URI SP HTTP-Version CRLF}.
  * </p>
+ * <p>
+ * The line is parsed lazily and only once per instance, the parsed parts and
+ * {@link URI} are memoized, so the instance may be passed along instead of
+ * parsing the same line again.
+ * </p>
  * @see <a href="https://www.w3.org/Protocols/rfc2616/rfc2616-sec5.html">RFC2616</a>
  * @since 0.1
  */
@@ -32,6 +38,11 @@ public final class RequestLineFrom {
      */
     private final String line;
 
+    /**
+     * Parsed request line parts.
+     */
+    private volatile Parsed parsed;
+
     /**
      * Primary ctor.
      * @param line HTTP request line
@@ -45,14 +56,7 @@ public final class RequestLineFrom {
      * @return Method name
      */
     public RqMethod method() {
-        final String string = this.part(0);
-        return RqMethod.ALL
-            .stream()
-            .filter(method -> method.value().equals(string))
-            .findAny()
-            .orElseThrow(
-                () -> new IllegalStateException(String.format("Unknown method: '%s'", string))
-            );
+        return this.parts().rqmethod();
     }
 
     /**
@@ -60,7 +64,31 @@ public final class RequestLineFrom {
      * @return URI of the request
      */
     public URI uri() {
-        return URI.create(this.part(1));
+        return this.parts().uri();
+    }
+
+    /**
+     * Decoded path of the request URI.
+     * @return Path of the request
+     */
+    public String path() {
+        return this.uri().getPath();
+    }
+
+    /**
+     * Raw (not decoded) path of the request URI.
+     * @return Raw path of the request
+     */
+    public String rawPath() {
+        return this.uri().getRawPath();
+    }
+
+    /**
+     * Raw query of the request URI.
+     * @return Query string if present
+     */
+    public Optional<String> query() {
+        return Optional.ofNullable(this.uri().getRawQuery());
     }
 
     /**
@@ -68,24 +96,191 @@ public final class RequestLineFrom {
      * @return HTTP version string
      */
     public String version() {
-        return this.part(2);
+        return this.parts().version;
+    }
+
+    /**
+     * Method token of the request line as is: neither the line nor the method is
+     * validated, so it never fails on unknown methods.
+     * @return Method token or empty string if the line is blank
+     */
+    public String methodToken() {
+        return this.lenient().method;
     }
 
     /**
-     * Part of request line. Valid HTTP request line must contains 3 parts which can be
-     * splitted by whitespace char.
-     * @param idx Part index
-     * @return Part string
+     * Raw path of the request target without query as is: neither the line nor the
+     * target is validated, so it never fails on malformed lines.
+     * @return Raw path or empty string if the line has no target
      */
-    private String part(final int idx) {
-        final String[] parts = this.line.trim().split("\\s");
-        // @checkstyle MagicNumberCheck (1 line)
-        if (parts.length == 3) {
-            return parts[idx];
+    public String targetPath() {
+        final String target = this.lenient().target;
+        final int query = target.indexOf('?');
+        final String res;
+        if (query >= 0) {
+            res = target.substring(0, query);
         } else {
-            throw new IllegalArgumentException(
-                String.format("Invalid HTTP request line \n%s", this.line)
-            );
+            res = target;
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return this.line;
+    }
+
+    /**
+     * Parsed parts of the request line.
+     * @return Parsed parts
+     */
+    private Parsed parts() {
+        return this.lenient().valid();
+    }
+
+    /**
+     * Parts of the request line which are not validated.
+     * @return Parsed parts
+     */
+    private Parsed lenient() {
+        Parsed res = this.parsed;
+        if (res == null) {
+            res = new Parsed(this.line);
+            this.parsed = res;
+        }
+        return res;
+    }
+
+    /**
+     * Parsed request line. Valid HTTP request line must contains 3 parts which can be
+     * splitted by whitespace char, missing parts of invalid line are empty.
+     * @since 1.2
+     */
+    private static final class Parsed {
+
+        /**
+         * Request line.
+         */
+        private final String line;
+
+        /**
+         * Request line has 3 parts.
+         */
+        private final boolean correct;
+
+        /**
+         * Method part.
+         */
+        private final String method;
+
+        /**
+         * Request URI part.
+         */
+        private final String target;
+
+        /**
+         * Version part.
+         */
+        private final String version;
+
+        /**
+         * Request URI, created on first access.
+         */
+        private volatile URI cached;
+
+        /**
+         * Request method, resolved on first access.
+         */
+        private volatile RqMethod resolved;
+
+        /**
+         * Parse request line.
+         * @param line Request line
+         */
+        Parsed(final String line) {
+            final String trimmed = line.trim();
+            final int first = Parsed.space(trimmed, 0);
+            final int second;
+            if (first < 0) {
+                second = -1;
+            } else {
+                second = Parsed.space(trimmed, first + 1);
+            }
+            this.line = line;
+            this.correct = second >= 0 && Parsed.space(trimmed, second + 1) < 0;
+            if (first < 0) {
+                this.method = trimmed;
+                this.target = "";
+                this.version = "";
+            } else if (second < 0) {
+                this.method = trimmed.substring(0, first);
+                this.target = trimmed.substring(first + 1);
+                this.version = "";
+            } else {
+                this.method = trimmed.substring(0, first);
+                this.target = trimmed.substring(first + 1, second);
+                this.version = trimmed.substring(second + 1);
+            }
+        }
+
+        /**
+         * Check that request line is valid.
+         * @return Itself
+         */
+        Parsed valid() {
+            if (!this.correct) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid HTTP request line \n%s", this.line)
+                );
+            }
+            return this;
+        }
+
+        /**
+         * Request method.
+         * @return Method
+         */
+        RqMethod rqmethod() {
+            RqMethod res = this.resolved;
+            if (res == null) {
+                res = new RqMethod.ByName(this.method).lookup().orElseThrow(
+                    () -> new IllegalStateException(
+                        String.format("Unknown method: '%s'", this.method)
+                    )
+                );
+                this.resolved = res;
+            }
+            return res;
+        }
+
+        /**
+         * Request URI.
+         * @return URI
+         */
+        URI uri() {
+            URI res = this.cached;
+            if (res == null) {
+                res = URI.create(this.target);
+                this.cached = res;
+            }
+            return res;
+        }
+
+        /**
+         * Find next whitespace char index.
+         * @param str String to search in
+         * @param from Index to start from
+         * @return Index of whitespace or -1 if not found
+         */
+        private static int space(final String str, final int from) {
+            int res = -1;
+            for (int pos = from; pos < str.length(); ++pos) {
+                if (Character.isWhitespace(str.charAt(pos))) {
+                    res = pos;
+                    break;
+                }
+            }
+            return res;
         }
     }
 }
@@ -4,6 +4,7 @@
  */
 package com.artipie.http.rq;
 
+import com.artipie.http.Headers;
 import java.util.AbstractList;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,10 @@ import java.util.stream.StreamSupport;
  * <p>
  * &gt; Field names are case-insensitive
  * </p>
+ * <p>
+ * If headers are {@link Headers} instance, values are taken from
+ * {@link Headers#all(String)}, e.g. from the index of {@link Headers.From}.
+ * </p>
  * @since 0.4
  */
 public final class RqHeaders extends AbstractList<String> {
@@ -48,10 +53,14 @@ public final class RqHeaders extends AbstractList<String> {
      * @param name Header name
      */
     public RqHeaders(final Iterable<Map.Entry<String, String>> headers, final String name) {
-        this.origin = StreamSupport.stream(headers.spliterator(), false)
-            .filter(entry -> entry.getKey().equalsIgnoreCase(name))
-            .map(Map.Entry::getValue)
-            .collect(Collectors.toList());
+        if (headers instanceof Headers) {
+            this.origin = ((Headers) headers).all(name);
+        } else {
+            this.origin = StreamSupport.stream(headers.spliterator(), false)
+                .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        }
     }
 
     @Override
@@ -5,6 +5,7 @@
 package com.artipie.http.rq;
 
 import java.util.EnumSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -87,4 +88,100 @@ public enum RqMethod {
     public String value() {
         return this.string;
     }
+
+    /**
+     * Searches {@link RqMethod} instance by method name.
+     * <p>
+     * Lookup is done by string switch, it doesn't iterate over all methods
+     * and doesn't allocate memory.
+     * </p>
+     * @since 1.2
+     */
+    public static final class ByName {
+
+        /**
+         * Method name.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         * @param name Method name
+         */
+        public ByName(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Searches method by name.
+         * @return RqMethod instance if found
+         * @throws IllegalArgumentException If method is not found
+         */
+        public RqMethod find() {
+            return this.lookup().orElseThrow(
+                () -> new IllegalArgumentException(
+                    String.format("Unknown method: '%s'", this.name)
+                )
+            );
+        }
+
+        /**
+         * Check if method name is known.
+         * @return True if method is known
+         */
+        public boolean known() {
+            return this.findOrNull() != null;
+        }
+
+        /**
+         * Searches method by name.
+         * @return RqMethod if found, empty otherwise
+         */
+        public Optional<RqMethod> lookup() {
+            return Optional.ofNullable(this.findOrNull());
+        }
+
+        /**
+         * Searches method by name.
+         * @return RqMethod or null if not found
+         * @checkstyle CyclomaticComplexityCheck (40 lines)
+         */
+        @SuppressWarnings("PMD.CyclomaticComplexity")
+        private RqMethod findOrNull() {
+            final RqMethod res;
+            switch (this.name) {
+                case "GET":
+                    res = RqMethod.GET;
+                    break;
+                case "HEAD":
+                    res = RqMethod.HEAD;
+                    break;
+                case "POST":
+                    res = RqMethod.POST;
+                    break;
+                case "PUT":
+                    res = RqMethod.PUT;
+                    break;
+                case "PATCH":
+                    res = RqMethod.PATCH;
+                    break;
+                case "DELETE":
+                    res = RqMethod.DELETE;
+                    break;
+                case "OPTIONS":
+                    res = RqMethod.OPTIONS;
+                    break;
+                case "TRACE":
+                    res = RqMethod.TRACE;
+                    break;
+                case "CONNECT":
+                    res = RqMethod.CONNECT;
+                    break;
+                default:
+                    res = null;
+                    break;
+            }
+            return res;
+        }
+    }
 }
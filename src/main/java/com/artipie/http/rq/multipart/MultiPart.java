@@ -4,12 +4,13 @@
  */
 package com.artipie.http.rq.multipart;
 
+import com.artipie.ArtipieException;
 import com.artipie.http.Headers;
-import com.artipie.http.misc.BufAccumulator;
+import com.artipie.http.misc.ByteBufferPool;
 import com.artipie.http.misc.ByteBufferTokenizer;
 import com.artipie.http.misc.DummySubscription;
 import java.nio.ByteBuffer;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import net.jcip.annotations.GuardedBy;
 import org.reactivestreams.Subscriber;
@@ -17,12 +18,31 @@ import org.reactivestreams.Subscription;
 
 /**
  * Multipart request part.
+ * <p>
+ * Body data which is received before downstream requests it is kept in memory up to
+ * the memory limit, the rest is spilled to temporary file and replayed from it on
+ * downstream demand, so memory per part is bounded even for slow downstream. Spilled
+ * data is bounded too: the part is aborted if its buffered body data exceeds memory
+ * and spill limits, so a stalled downstream can't fill the disk. Body chunks are
+ * allocated for each delivery, unless the chunks pool is provided for downstream which
+ * consumes each chunk synchronously in {@code onNext}.
+ * </p>
  * @since 1.0
  * @checkstyle MethodBodyCommentsCheck (500 lines)
  */
 @SuppressWarnings("PMD.NullAssignment")
 final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver, Subscription {
 
+    /**
+     * Default memory limit of body data: 1 MB.
+     */
+    static final int MEMORY_DEFAULT = 1024 * 1024;
+
+    /**
+     * Default spill limit of body data: 1 GB.
+     */
+    static final long SPILL_DEFAULT = 1024L * 1024 * 1024;
+
     /**
      * Header buffer capacity.
      */
@@ -33,6 +53,11 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
      */
     private static final int CAP_PART = 1024;
 
+    /**
+     * Max size of body chunk sent to downstream.
+     */
+    private static final int CAP_OUT = 4096;
+
     /**
      * Delimiter token.
      */
@@ -47,7 +72,7 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
     /**
      * Part processor executor.
      */
-    private final ExecutorService exec;
+    private final Executor exec;
 
     /**
      * Multipart header.
@@ -78,11 +103,23 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
      * <p>
      * It's needed when the downstream connected after the part of body received.
      * It may happen if the first chunk of body received with last header chunk
-     * before downstream subscription.
+     * before downstream subscription, or if downstream is slower than upstream.
      * </p>
      */
     @GuardedBy("lock")
-    private final BufAccumulator tmpacc;
+    private final SpillBuffer tmpacc;
+
+    /**
+     * Temporary body accumulator was released.
+     */
+    @GuardedBy("lock")
+    private boolean released;
+
+    /**
+     * Error which the part was aborted with.
+     */
+    @GuardedBy("lock")
+    private Throwable error;
 
     /**
      * Completed flag.
@@ -104,23 +141,86 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
      */
     private volatile long demand;
 
+    /**
+     * Max size of buffered body data in memory and file.
+     */
+    private final long capacity;
+
+    /**
+     * Pool of body chunks sent to downstream.
+     */
+    private final ByteBufferPool chunks;
+
+    /**
+     * New multipart request part.
+     * @param completion Upstream completion handler
+     * @param ready Ready callback
+     * @param exec Executor to deliver body, it should run tasks serially
+     */
+    MultiPart(final Completion<?> completion, final Consumer<? super RqMultipart.Part> ready,
+        final Executor exec) {
+        this(completion, ready, exec, ByteBufferPool.HEAP, MultiPart.MEMORY_DEFAULT);
+    }
+
+    /**
+     * New multipart request part.
+     * @param completion Upstream completion handler
+     * @param ready Ready callback
+     * @param exec Executor to deliver body, it should run tasks serially
+     * @param pool Pool for temporary buffers
+     * @param memory Memory limit of body data in bytes, the rest is spilled to file
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    MultiPart(final Completion<?> completion, final Consumer<? super RqMultipart.Part> ready,
+        final Executor exec, final ByteBufferPool pool, final int memory) {
+        this(completion, ready, exec, pool, memory, MultiPart.SPILL_DEFAULT);
+    }
+
+    /**
+     * New multipart request part.
+     * @param completion Upstream completion handler
+     * @param ready Ready callback
+     * @param exec Executor to deliver body, it should run tasks serially
+     * @param pool Pool for temporary buffers
+     * @param memory Memory limit of body data in bytes, the rest is spilled to file
+     * @param spill Limit of body data spilled to file in bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    MultiPart(final Completion<?> completion, final Consumer<? super RqMultipart.Part> ready,
+        final Executor exec, final ByteBufferPool pool, final int memory, final long spill) {
+        this(completion, ready, exec, pool, memory, spill, ByteBufferPool.UNPOOLED);
+    }
+
     /**
      * New multipart request part.
      * @param completion Upstream completion handler
      * @param ready Ready callback
-     * @param exec Executor service
+     * @param exec Executor to deliver body, it should run tasks serially
+     * @param pool Pool for temporary buffers
+     * @param memory Memory limit of body data in bytes, the rest is spilled to file
+     * @param spill Limit of body data spilled to file in bytes
+     * @param chunks Pool of body chunks, chunk is released when downstream
+     *  {@code onNext} returns, so downstream must not keep it
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
     MultiPart(final Completion<?> completion, final Consumer<? super RqMultipart.Part> ready,
-        final ExecutorService exec) {
+        final Executor exec, final ByteBufferPool pool, final int memory, final long spill,
+        final ByteBufferPool chunks) {
         this.ready = ready;
         this.completion = completion;
         this.tokenizer = new ByteBufferTokenizer(
-            this, MultiPart.DELIM.getBytes(), MultiPart.CAP_PART
+            this, MultiPart.DELIM.getBytes(), MultiPart.CAP_PART, true
         );
         this.hdr = new MultipartHeaders(MultiPart.CAP_HEADER);
-        this.tmpacc = new BufAccumulator(MultiPart.CAP_HEADER);
+        this.tmpacc = new SpillBuffer(MultiPart.CAP_HEADER, memory, pool);
         this.lock = new Object();
         this.exec = exec;
+        this.chunks = chunks;
+        if (memory + spill < 0) {
+            this.capacity = Long.MAX_VALUE;
+        } else {
+            this.capacity = memory + spill;
+        }
     }
 
     @Override
@@ -136,6 +236,11 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
                 sub.onError(new IllegalStateException("Downstream already connected"));
                 return;
             }
+            if (this.error != null) {
+                sub.onSubscribe(DummySubscription.VALUE);
+                sub.onError(this.error);
+                return;
+            }
             this.downstream = sub;
             sub.onSubscribe(this);
         }
@@ -171,13 +276,14 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
                 this.demand += amt;
             }
         }
-        this.exec.submit(this::deliver);
+        this.exec.execute(this::deliver);
     }
 
     @Override
     public void cancel() {
         synchronized (this.lock) {
             this.downstream = null;
+            this.release();
         }
     }
 
@@ -208,7 +314,30 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
                 this.tokenizer.close();
             }
             this.completed = true;
-            this.exec.submit(this::deliver);
+            this.exec.execute(this::deliver);
+        }
+    }
+
+    /**
+     * Abort the part which can't be completed, because upstream failed or parts
+     * subscription was cancelled.
+     * <p>
+     * Temporary body accumulator is released and downstream receives the error.
+     * Completed part which is already subscribed is not aborted, since all its data
+     * is received and downstream still can read it.
+     * </p>
+     * @param err Error
+     */
+    void abort(final Throwable err) {
+        synchronized (this.lock) {
+            if (!this.released && !(this.completed && this.downstream != null)) {
+                this.error = err;
+                this.release();
+                if (this.downstream != null) {
+                    this.downstream.onError(err);
+                    this.downstream = null;
+                }
+            }
         }
     }
 
@@ -217,9 +346,24 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
      * @param next Next buffer
      */
     private void nextChunk(final ByteBuffer next) {
+        if (this.released) {
+            return;
+        }
+        if (this.tmpacc.size() + next.remaining() > this.capacity) {
+            this.abort(
+                new ArtipieException(
+                    String.format(
+                        "Part body is not read, buffered data exceeds %d bytes", this.capacity
+                    )
+                )
+            );
+            // the rest of aborted part is skipped, so next parts are not blocked by it
+            this.completion.itemCompleted();
+            return;
+        }
         this.tmpacc.write(next);
         if (this.downstream != null) {
-            this.exec.submit(this::deliver);
+            this.exec.execute(this::deliver);
         }
     }
 
@@ -228,14 +372,22 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
      */
     private void deliver() {
         synchronized (this.lock) {
+            if (this.downstream == null) {
+                return;
+            }
             boolean delivered = false;
             while (this.demand > 0) {
-                final ByteBuffer out = ByteBuffer.allocate(4096);
+                // chunks are unpooled by default, since downstream may keep them
+                final ByteBuffer out = this.chunks.acquire(
+                    (int) Math.min(this.tmpacc.size(), MultiPart.CAP_OUT)
+                );
                 if (this.tmpacc.read(out) < 0) {
+                    this.chunks.release(out);
                     break;
                 }
                 out.flip();
                 this.downstream.onNext(out);
+                this.chunks.release(out);
                 delivered = true;
                 if (this.demand != Long.MAX_VALUE) {
                     --this.demand;
@@ -245,11 +397,21 @@ final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver,
                 if (!delivered) {
                     this.downstream.onNext(ByteBuffer.allocate(0));
                 }
-                this.tmpacc.close();
+                this.release();
                 this.downstream.onComplete();
                 this.downstream = null;
                 this.completion.itemCompleted();
             }
         }
     }
+
+    /**
+     * Release temporary body accumulator with its memory and file.
+     */
+    private void release() {
+        if (!this.released) {
+            this.released = true;
+            this.tmpacc.close();
+        }
+    }
 }
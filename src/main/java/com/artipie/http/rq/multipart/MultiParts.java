@@ -5,12 +5,14 @@
 package com.artipie.http.rq.multipart;
 
 import com.artipie.ArtipieException;
+import com.artipie.http.misc.ByteBufferPool;
 import com.artipie.http.misc.ByteBufferTokenizer;
 import com.artipie.http.misc.Pipeline;
+import com.artipie.http.misc.SerialExecutor;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import org.reactivestreams.Processor;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -18,6 +20,13 @@ import org.reactivestreams.Subscription;
 
 /**
  * Multipart parts publisher.
+ * <p>
+ * Parts and bodies of each part are processed serially on the shared executor without
+ * per-request threads: the executor is bounded by number of processors, it compensates
+ * blocked threads only for managed blocking, such as waiting for {@code CompletableFuture}
+ * or part body file IO. Current part is aborted if upstream fails or parts subscription
+ * is cancelled, so its temporary body data is released.
+ * </p>
  *
  * @since 1.0
  * @checkstyle MethodBodyCommentsCheck (500 lines)
@@ -26,9 +35,17 @@ final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
     ByteBufferTokenizer.Receiver {
 
     /**
-     * Cached thread pool for parts processing.
+     * Shared executor for parts processing.
      */
-    private static final ExecutorService CACHED_PEXEC = Executors.newCachedThreadPool();
+    static final Executor SHARED = new ForkJoinPool(
+        Runtime.getRuntime().availableProcessors(),
+        ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true
+    );
+
+    /**
+     * Tokenizer buffer capacity, it keeps only bytes of possible boundary.
+     */
+    private static final int CAP_BUF = 128;
 
     /**
      * Upstream downstream pipeline.
@@ -41,14 +58,14 @@ final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
     private final ByteBufferTokenizer tokenizer;
 
     /**
-     * Subscription executor service.
+     * Shared executor.
      */
-    private final ExecutorService exec;
+    private final Executor shared;
 
     /**
-     * Part executor service.
+     * Serial executor for parts processing.
      */
-    private final ExecutorService pexec;
+    private final Executor exec;
 
     /**
      * State synchronization.
@@ -60,6 +77,11 @@ final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
      */
     private volatile MultiPart current;
 
+    /**
+     * Parts subscription was cancelled.
+     */
+    private volatile boolean cancelled;
+
     /**
      * State flags.
      */
@@ -70,37 +92,108 @@ final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
      */
     private final Completion<?> completion;
 
+    /**
+     * Buffer pool.
+     */
+    private final ByteBufferPool pool;
+
+    /**
+     * Memory limit of part body data.
+     */
+    private final int memory;
+
+    /**
+     * Spill limit of part body data.
+     */
+    private final long spill;
+
+    /**
+     * Pool of part body chunks.
+     */
+    private final ByteBufferPool chunks;
+
     /**
      * New multipart parts publisher for upstream publisher.
      * @param boundary Boundary token delimiter of parts
      */
     MultiParts(final String boundary) {
-        this(boundary, MultiParts.CACHED_PEXEC);
+        this(boundary, MultiParts.SHARED);
+    }
+
+    /**
+     * New multipart parts publisher for upstream publisher.
+     * @param boundary Boundary token delimiter of parts
+     * @param shared Shared executor for processing
+     */
+    MultiParts(final String boundary, final Executor shared) {
+        this(boundary, shared, ByteBufferPool.HEAP, MultiPart.MEMORY_DEFAULT);
+    }
+
+    /**
+     * New multipart parts publisher for upstream publisher.
+     * @param boundary Boundary token delimiter of parts
+     * @param shared Shared executor for processing
+     * @param pool Buffer pool
+     * @param memory Memory limit of each part body data, the rest is spilled to file
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    MultiParts(final String boundary, final Executor shared, final ByteBufferPool pool,
+        final int memory) {
+        this(boundary, shared, pool, memory, MultiPart.SPILL_DEFAULT);
+    }
+
+    /**
+     * New multipart parts publisher for upstream publisher.
+     * @param boundary Boundary token delimiter of parts
+     * @param shared Shared executor for processing
+     * @param pool Buffer pool
+     * @param memory Memory limit of each part body data, the rest is spilled to file
+     * @param spill Spill limit of each part body data, part is aborted above it
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    MultiParts(final String boundary, final Executor shared, final ByteBufferPool pool,
+        final int memory, final long spill) {
+        this(boundary, shared, pool, memory, spill, ByteBufferPool.UNPOOLED);
     }
 
     /**
      * New multipart parts publisher for upstream publisher.
      * @param boundary Boundary token delimiter of parts
-     * @param pexec Parts processing executor
+     * @param shared Shared executor for processing
+     * @param pool Buffer pool
+     * @param memory Memory limit of each part body data, the rest is spilled to file
+     * @param spill Spill limit of each part body data, part is aborted above it
+     * @param chunks Pool of part body chunks which are released after {@code onNext}
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    MultiParts(final String boundary, final ExecutorService pexec) {
+    MultiParts(final String boundary, final Executor shared, final ByteBufferPool pool,
+        final int memory, final long spill, final ByteBufferPool chunks) {
+        // parts copy received slices synchronously, so chunks are not copied by tokenizer
         this.tokenizer = new ByteBufferTokenizer(
-            this, boundary.getBytes(StandardCharsets.US_ASCII)
+            this, boundary.getBytes(StandardCharsets.US_ASCII), MultiParts.CAP_BUF, true
         );
-        this.exec = Executors.newSingleThreadExecutor();
+        this.shared = shared;
+        this.exec = new SerialExecutor(shared);
         this.pipeline = new Pipeline<>();
         this.completion = new Completion<>(this.pipeline);
         this.state = new State();
         this.lock = new Object();
-        this.pexec = pexec;
+        this.pool = pool;
+        this.memory = memory;
+        this.spill = spill;
+        this.chunks = chunks;
     }
 
     /**
      * Subscribe publisher to this processor asynchronously.
+     * <p>
+     * The subscription is not serialized with parts processing, otherwise
+     * synchronous upstream would be read completely before any part is delivered.
+     * </p>
      * @param pub Upstream publisher
      */
     public void subscribeAsync(final Publisher<ByteBuffer> pub) {
-        this.exec.submit(() -> pub.subscribe(this));
+        this.shared.execute(() -> pub.subscribe(this));
     }
 
     @Override
@@ -110,33 +203,35 @@ final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
 
     @Override
     public void onSubscribe(final Subscription sub) {
-        this.pipeline.onSubscribe(sub);
+        this.pipeline.onSubscribe(new Upstream(sub));
     }
 
     @Override
     public void onNext(final ByteBuffer chunk) {
-        final ByteBuffer next;
         if (this.state.isInit()) {
             // multipart preamble is tricky:
             // if request is started with boundary, then it donesn't have a preamble
             // but we're splitting it by \r\n<boundary> token.
             // To tell tokenizer emmit empty chunk on non-preamble first buffer started with
             // boudnary we need to add \r\n to it.
-            next = ByteBuffer.allocate(chunk.limit() + 2);
+            // Parts copy tokens synchronously, so the buffer is released after push.
+            final ByteBuffer next = this.pool.acquire(chunk.remaining() + 2);
             next.put("\r\n".getBytes(StandardCharsets.US_ASCII));
             next.put(chunk);
-            next.rewind();
+            next.flip();
+            this.tokenizer.push(next);
+            this.pool.release(next);
         } else {
-            next = chunk;
+            this.tokenizer.push(chunk);
         }
-        this.tokenizer.push(next);
         this.pipeline.request(1L);
     }
 
     @Override
     public void onError(final Throwable err) {
-        this.pipeline.onError(new ArtipieException("Upstream failed", err));
-        this.exec.shutdown();
+        final ArtipieException failure = new ArtipieException("Upstream failed", err);
+        this.abort(failure);
+        this.pipeline.onError(failure);
     }
 
     @Override
@@ -147,6 +242,9 @@ final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
     @Override
     public void receive(final ByteBuffer next, final boolean end) {
         synchronized (this.lock) {
+            if (this.cancelled) {
+                return;
+            }
             this.state.patch(next, end);
             if (this.state.shouldIgnore()) {
                 return;
@@ -155,8 +253,9 @@ final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
                 this.completion.itemStarted();
                 this.current = new MultiPart(
                     this.completion,
-                    part -> this.exec.submit(() -> this.pipeline.onNext(part)),
-                    this.pexec
+                    part -> this.exec.execute(() -> this.pipeline.onNext(part)),
+                    new SerialExecutor(this.shared), this.pool, this.memory, this.spill,
+                    this.chunks
                 );
             }
             this.current.push(next);
@@ -165,4 +264,56 @@ final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
             }
         }
     }
+
+    /**
+     * Abort current part.
+     * @param err Error
+     */
+    private void abort(final Throwable err) {
+        synchronized (this.lock) {
+            if (this.current != null) {
+                this.current.abort(err);
+            }
+        }
+    }
+
+    /**
+     * Upstream subscription which aborts current part on cancel.
+     * <p>
+     * Pipeline cancels upstream holding its lock, and parts call pipeline holding
+     * their locks, so the part is aborted asynchronously on serial executor.
+     * </p>
+     * @since 1.2
+     */
+    private final class Upstream implements Subscription {
+
+        /**
+         * Origin subscription.
+         */
+        private final Subscription origin;
+
+        /**
+         * Ctor.
+         * @param origin Origin subscription
+         */
+        Upstream(final Subscription origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public void request(final long amt) {
+            this.origin.request(amt);
+        }
+
+        @Override
+        public void cancel() {
+            this.origin.cancel();
+            MultiParts.this.cancelled = true;
+            MultiParts.this.exec.execute(
+                () -> MultiParts.this.abort(
+                    new ArtipieException("Parts subscription cancelled")
+                )
+            );
+        }
+    }
 }
@@ -8,6 +8,7 @@ package com.artipie.http.rq.multipart;
 import com.artipie.http.ArtipieHttpException;
 import com.artipie.http.Headers;
 import com.artipie.http.headers.ContentType;
+import com.artipie.http.misc.ByteBufferPool;
 import com.artipie.http.rs.RsStatus;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
@@ -15,6 +16,7 @@ import io.reactivex.Single;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import org.reactivestreams.Publisher;
 import wtf.g4s8.mime.MimeType;
@@ -30,8 +32,9 @@ import wtf.g4s8.mime.MimeType;
  *
  * @implNote Since the multipart body is always received sequentially part by part,
  * the parts() method does not publish the next part until the previous is fully read.
- * @implNote The implementation does not keep request part data in memory or storage,
- * it should process each chunk and send to proper downstream.
+ * @implNote The implementation keeps only part data which was not requested by part
+ * downstream yet: up to memory limit in memory, the rest in temporary file up to spill
+ * limit (1 GB by default), part fails above it.
  * @implNote The body part will not be parsed until {@code parts()} method call.
  * @since 1.0
  */
@@ -47,6 +50,26 @@ public final class RqMultipart {
      */
     private Publisher<ByteBuffer> upstream;
 
+    /**
+     * Parts processing executor.
+     */
+    private final Executor exec;
+
+    /**
+     * Memory limit of part body data.
+     */
+    private final int memory;
+
+    /**
+     * Spill limit of part body data.
+     */
+    private final long spill;
+
+    /**
+     * Pool of part body chunks.
+     */
+    private final ByteBufferPool chunks;
+
     /**
      * Multipart request from headers and body upstream.
      * @param headers Request headers
@@ -63,8 +86,85 @@ public final class RqMultipart {
      * @param body Upstream
      */
     public RqMultipart(final ContentType ctype, final Publisher<ByteBuffer> body) {
+        this(ctype, body, MultiParts.SHARED);
+    }
+
+    /**
+     * Multipart request with custom parts processing executor.
+     * <p>
+     * Parts are processed serially on the executor, it can be shared by many requests,
+     * e.g. {@code Runnable::run} processes parts on the thread which reads request body,
+     * but the downstream must not block in this case.
+     * </p>
+     * @param ctype Content type
+     * @param body Upstream
+     * @param exec Parts processing executor
+     */
+    public RqMultipart(final ContentType ctype, final Publisher<ByteBuffer> body,
+        final Executor exec) {
+        this(ctype, body, exec, MultiPart.MEMORY_DEFAULT);
+    }
+
+    /**
+     * Multipart request with custom parts processing executor and memory limit.
+     * <p>
+     * Part body data which is received before downstream requests it is kept in memory
+     * up to the limit, the rest is spilled to temporary file.
+     * </p>
+     * @param ctype Content type
+     * @param body Upstream
+     * @param exec Parts processing executor
+     * @param memory Memory limit of each part body data in bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RqMultipart(final ContentType ctype, final Publisher<ByteBuffer> body,
+        final Executor exec, final int memory) {
+        this(ctype, body, exec, memory, MultiPart.SPILL_DEFAULT);
+    }
+
+    /**
+     * Multipart request with custom parts processing executor, memory and spill limits.
+     * <p>
+     * Part body data which is received before downstream requests it is kept in memory
+     * up to the memory limit, the rest is spilled to temporary file up to the spill limit.
+     * Part downstream fails if unread body data exceeds both limits.
+     * </p>
+     * @param ctype Content type
+     * @param body Upstream
+     * @param exec Parts processing executor
+     * @param memory Memory limit of each part body data in bytes
+     * @param spill Spill limit of each part body data in bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RqMultipart(final ContentType ctype, final Publisher<ByteBuffer> body,
+        final Executor exec, final int memory, final long spill) {
+        this(ctype, body, exec, memory, spill, ByteBufferPool.UNPOOLED);
+    }
+
+    /**
+     * Multipart request with pooled part body chunks.
+     * <p>
+     * Each chunk of part body is acquired from the pool and released back when part
+     * subscriber's {@code onNext} returns, so part subscribers must consume chunks
+     * synchronously and must not keep them, e.g. write them to a channel or copy them.
+     * By default chunks are not pooled and subscribers own them.
+     * </p>
+     * @param ctype Content type
+     * @param body Upstream
+     * @param exec Parts processing executor
+     * @param memory Memory limit of each part body data in bytes
+     * @param spill Spill limit of each part body data in bytes
+     * @param chunks Pool of part body chunks
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RqMultipart(final ContentType ctype, final Publisher<ByteBuffer> body,
+        final Executor exec, final int memory, final long spill, final ByteBufferPool chunks) {
         this.ctype = ctype;
         this.upstream = body;
+        this.exec = exec;
+        this.memory = memory;
+        this.spill = spill;
+        this.chunks = chunks;
     }
 
     /**
@@ -73,7 +173,10 @@ public final class RqMultipart {
      * @return Publisher of parts
      */
     public Publisher<Part> parts() {
-        final MultiParts pub = new MultiParts(this.boundary());
+        final MultiParts pub = new MultiParts(
+            this.boundary(), this.exec, ByteBufferPool.HEAP, this.memory, this.spill,
+            this.chunks
+        );
         pub.subscribeAsync(this.upstream);
         return pub;
     }
@@ -99,8 +202,18 @@ public final class RqMultipart {
         return Flowable.fromPublisher(this.parts()).flatMapSingle(
             part -> {
                 final InternalSink sink = new InternalSink();
-                return Completable.fromFuture(inspector.inspect(part, sink).toCompletableFuture())
-                    .andThen(sink.filter());
+                final CompletionStage<Void> inspected = inspector.inspect(part, sink);
+                return Completable.create(
+                    emitter -> inspected.whenComplete(
+                        (none, err) -> {
+                            if (err == null) {
+                                emitter.onComplete();
+                            } else {
+                                emitter.onError(err);
+                            }
+                        }
+                    )
+                ).andThen(sink.filter());
             }
         ).filter(part -> part != Part.EMPTY);
     }
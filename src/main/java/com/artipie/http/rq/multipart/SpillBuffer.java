@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rq.multipart;
+
+import com.artipie.http.misc.BufAccumulator;
+import com.artipie.http.misc.ByteBufferPool;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * First in first out byte buffer which spills data to temporary file above memory limit.
+ * <p>
+ * Data is written to memory until memory limit is reached, then it's appended to temporary
+ * file until the file is drained by reads, so the data in memory is always older than data
+ * in the file. Temporary file is created on first spill and deleted on close.
+ * File operations are run as {@link ForkJoinPool#managedBlock} blocking, so fork-join
+ * pool compensates workers blocked on disk IO.
+ * </p>
+ * @implNote This class is not thread safe
+ * @since 1.2
+ */
+@NotThreadSafe
+final class SpillBuffer implements Closeable {
+
+    /**
+     * Memory buffer.
+     */
+    private final BufAccumulator memory;
+
+    /**
+     * Memory limit in bytes.
+     */
+    private final int limit;
+
+    /**
+     * Temporary file, null if not created yet.
+     */
+    private FileChannel file;
+
+    /**
+     * File write position.
+     */
+    private long wpos;
+
+    /**
+     * File read position.
+     */
+    private long rpos;
+
+    /**
+     * New spill buffer.
+     * @param cap Initial memory capacity
+     * @param limit Memory limit in bytes
+     * @param pool Memory buffers pool
+     */
+    SpillBuffer(final int cap, final int limit, final ByteBufferPool pool) {
+        this.memory = new BufAccumulator(cap, pool);
+        this.limit = limit;
+    }
+
+    /**
+     * Write data to the end of buffer.
+     * @param src Source data
+     */
+    void write(final ByteBuffer src) {
+        if (this.wpos == this.rpos
+            && (long) this.memory.size() + src.remaining() <= this.limit) {
+            this.memory.write(src);
+        } else {
+            this.wpos += SpillBuffer.blocking(
+                () -> {
+                    final FileChannel chan = this.channel();
+                    long cnt = 0;
+                    while (src.hasRemaining()) {
+                        cnt += chan.write(src, this.wpos + cnt);
+                    }
+                    return cnt;
+                }
+            );
+        }
+    }
+
+    /**
+     * Read data from the start of buffer.
+     * @param dst Destination buffer
+     * @return Number of bytes read or -1 if buffer is empty
+     */
+    int read(final ByteBuffer dst) {
+        final int res;
+        if (!this.memory.empty()) {
+            res = this.memory.read(dst);
+        } else if (this.rpos < this.wpos) {
+            final int lim = dst.limit();
+            if (dst.remaining() > this.wpos - this.rpos) {
+                dst.limit(dst.position() + (int) (this.wpos - this.rpos));
+            }
+            try {
+                res = (int) SpillBuffer.blocking(() -> this.file.read(dst, this.rpos));
+                this.rpos += res;
+                if (this.rpos == this.wpos) {
+                    SpillBuffer.blocking(
+                        () -> {
+                            this.file.truncate(0);
+                            return 0L;
+                        }
+                    );
+                    this.rpos = 0;
+                    this.wpos = 0;
+                }
+            } finally {
+                dst.limit(lim);
+            }
+        } else {
+            res = -1;
+        }
+        return res;
+    }
+
+    /**
+     * Number of bytes in buffer.
+     * @return Size in memory and file
+     */
+    long size() {
+        return this.memory.size() + this.wpos - this.rpos;
+    }
+
+    /**
+     * Check if buffer is empty.
+     * @return True if empty
+     */
+    boolean empty() {
+        return this.memory.empty() && this.wpos == this.rpos;
+    }
+
+    /**
+     * Check if some data is spilled to file.
+     * @return True if file contains data
+     */
+    boolean spilled() {
+        return this.wpos > this.rpos;
+    }
+
+    @Override
+    public void close() {
+        this.memory.close();
+        if (this.file != null) {
+            SpillBuffer.blocking(
+                () -> {
+                    this.file.close();
+                    return 0L;
+                }
+            );
+        }
+    }
+
+    /**
+     * Temporary file channel.
+     * @return Channel
+     * @throws IOException On error
+     */
+    private FileChannel channel() throws IOException {
+        if (this.file == null) {
+            this.file = FileChannel.open(
+                Files.createTempFile("artipie-multipart", ".part"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE
+            );
+        }
+        return this.file;
+    }
+
+    /**
+     * Run file operation as managed blocking.
+     * @param operation File operation
+     * @return Operation result
+     */
+    private static long blocking(final FileOperation operation) {
+        final Blocker blocker = new Blocker(operation);
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException(err.getMessage()));
+        }
+        return blocker.result;
+    }
+
+    /**
+     * Blocking file operation.
+     * @since 1.2
+     */
+    @FunctionalInterface
+    private interface FileOperation {
+
+        /**
+         * Run operation.
+         * @return Result
+         * @throws IOException On error
+         */
+        long run() throws IOException;
+    }
+
+    /**
+     * Fork-join pool blocker of file operation.
+     * @since 1.2
+     */
+    private static final class Blocker implements ForkJoinPool.ManagedBlocker {
+
+        /**
+         * File operation.
+         */
+        private final FileOperation operation;
+
+        /**
+         * Operation result.
+         */
+        private long result;
+
+        /**
+         * Operation is done.
+         */
+        private boolean done;
+
+        /**
+         * Ctor.
+         * @param operation File operation
+         */
+        Blocker(final FileOperation operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean block() {
+            try {
+                this.result = this.operation.run();
+            } catch (final IOException err) {
+                throw new UncheckedIOException(err);
+            }
+            this.done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return this.done;
+        }
+    }
+}
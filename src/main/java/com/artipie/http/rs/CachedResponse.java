@@ -9,8 +9,10 @@ import com.artipie.asto.ext.PublisherAs;
 import com.artipie.http.Connection;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
+import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
@@ -21,6 +23,9 @@ import org.reactivestreams.Publisher;
  * Response that caches origin response once it first sent and can replay it many times.
  * <p>It can be useful when testing one response against multiple matchers, and response
  * from slice should be called only once.</p>
+ * <p>Body is replayed as read-only duplicate of the cached buffer, so consumers
+ * can't modify cached bytes. To share cached responses between requests use
+ * {@link com.artipie.http.slice.CachedSlice}.</p>
  * @since 0.17
  */
 public final class CachedResponse implements Response {
@@ -79,13 +84,21 @@ public final class CachedResponse implements Response {
          */
         private volatile byte[] body;
 
+        /**
+         * Read-only response body buffer.
+         */
+        private volatile ByteBuffer buffer;
+
         @Override
         public CompletionStage<Void> accept(final RsStatus stts, final Headers hdrs,
             final Publisher<ByteBuffer> bdy) {
             this.status = stts;
             this.headers = hdrs;
             return new PublisherAs(bdy).bytes().thenAccept(
-                bytes -> this.body = bytes
+                bytes -> {
+                    this.buffer = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+                    this.body = bytes;
+                }
             );
         }
 
@@ -128,7 +141,13 @@ public final class CachedResponse implements Response {
          * @return Future
          */
         CompletionStage<Void> replay(final Connection connection) {
-            return connection.accept(this.status, this.headers, new Content.From(this.body));
+            return connection.accept(
+                this.status, this.headers,
+                new Content.From(
+                    Optional.of((long) this.buffer.remaining()),
+                    Flowable.just(this.buffer.duplicate())
+                )
+            );
         }
     }
 }
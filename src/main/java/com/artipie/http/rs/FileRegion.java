@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rs;
+
+import com.artipie.asto.Content;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import org.cqfn.rio.Buffers;
+import org.cqfn.rio.channel.ReadableChannel;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Response body which is a region of a file.
+ * <p>
+ * {@link com.artipie.http.Connection} implementations may detect this body type
+ * and send the region with {@link FileChannel#transferTo(long, long, WritableByteChannel)}
+ * (which may use {@code sendfile} for socket channels), other connections read it
+ * as an ordinary publisher of byte buffers. File size is checked when the file is
+ * opened: if the file was replaced or truncated since the region was created, reading
+ * fails instead of sending content which doesn't match announced size.
+ * </p>
+ * @since 1.2
+ */
+public final class FileRegion implements Content {
+
+    /**
+     * File.
+     */
+    private final Path file;
+
+    /**
+     * Expected file size or -1 if only region bounds are checked.
+     */
+    private final long length;
+
+    /**
+     * Region start position.
+     */
+    private final long position;
+
+    /**
+     * Region size in bytes.
+     */
+    private final long count;
+
+    /**
+     * Region of the whole file.
+     * @param file File
+     * @param size File size
+     */
+    public FileRegion(final Path file, final long size) {
+        this(file, size, 0L, size);
+    }
+
+    /**
+     * Region of the file.
+     * @param file File
+     * @param position Region start position
+     * @param count Region size in bytes
+     */
+    public FileRegion(final Path file, final long position, final long count) {
+        this(file, -1L, position, count);
+    }
+
+    /**
+     * Primary ctor.
+     * @param file File
+     * @param length Expected file size or -1 if only region bounds are checked
+     * @param position Region start position
+     * @param count Region size in bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private FileRegion(final Path file, final long length, final long position,
+        final long count) {
+        this.file = file;
+        this.length = length;
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Region of this region.
+     * @param start Start position relative to this region
+     * @param length Region size in bytes
+     * @return File region
+     */
+    public FileRegion region(final long start, final long length) {
+        if (start < 0 || length < 0 || start + length > this.count) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Region %d+%d is out of bounds of region of size %d",
+                    start, length, this.count
+                )
+            );
+        }
+        return new FileRegion(this.file, this.length, this.position + start, length);
+    }
+
+    @Override
+    public Optional<Long> size() {
+        return Optional.of(this.count);
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+        new ReadableChannel(
+            () -> new BoundedChannel(this.open(), this.count)
+        ).read(Buffers.Standard.K8).subscribe(subscriber);
+    }
+
+    /**
+     * Transfer the region to the channel.
+     * @param target Target channel
+     * @return Number of bytes transferred
+     * @throws IOException On IO error
+     */
+    public long transferTo(final WritableByteChannel target) throws IOException {
+        long done = 0;
+        try (FileChannel chan = this.open()) {
+            while (done < this.count) {
+                final long sent = chan.transferTo(
+                    this.position + done, this.count - done, target
+                );
+                if (sent <= 0) {
+                    break;
+                }
+                done += sent;
+            }
+        }
+        return done;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "(%s: file=%s, length=%d, position=%d, count=%d)",
+            this.getClass().getSimpleName(), this.file, this.length, this.position, this.count
+        );
+    }
+
+    /**
+     * Open file channel at region start and check file size.
+     * @return File channel
+     * @throws IOException On IO error or if file size doesn't match the region
+     */
+    private FileChannel open() throws IOException {
+        final FileChannel chan = FileChannel.open(this.file, StandardOpenOption.READ);
+        final long size = chan.size();
+        if (this.length >= 0 && size != this.length || size < this.position + this.count) {
+            chan.close();
+            throw new IOException(
+                String.format(
+                    "File %s was changed: size is %d, region %s", this.file, size, this
+                )
+            );
+        }
+        chan.position(this.position);
+        return chan;
+    }
+
+    /**
+     * Channel which reads not more than limited number of bytes from origin.
+     * @since 1.2
+     */
+    private static final class BoundedChannel implements ReadableByteChannel {
+
+        /**
+         * Origin channel.
+         */
+        private final ReadableByteChannel origin;
+
+        /**
+         * Bytes left to read.
+         */
+        private long left;
+
+        /**
+         * Ctor.
+         * @param origin Origin channel
+         * @param limit Bytes limit
+         */
+        BoundedChannel(final ReadableByteChannel origin, final long limit) {
+            this.origin = origin;
+            this.left = limit;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            final int res;
+            if (this.left <= 0) {
+                res = -1;
+            } else {
+                final int lim = dst.limit();
+                if (dst.remaining() > this.left) {
+                    dst.limit(dst.position() + (int) this.left);
+                }
+                try {
+                    res = this.origin.read(dst);
+                } finally {
+                    dst.limit(lim);
+                }
+                if (res > 0) {
+                    this.left -= res;
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return this.origin.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.origin.close();
+        }
+    }
+}
@@ -34,6 +34,10 @@ public enum RsStatus {
      * No Content.
      */
     NO_CONTENT("204"),
+    /**
+     * Partial Content.
+     */
+    PARTIAL_CONTENT("206"),
     /**
      * Moved Permanently.
      */
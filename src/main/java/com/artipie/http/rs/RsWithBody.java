@@ -174,10 +174,13 @@ public final class RsWithBody implements Response {
             final RsStatus status,
             final Headers headers,
             final Publisher<ByteBuffer> none) {
-            return this.origin.accept(
-                status, headers,
-                Flowable.fromPublisher(this.body).map(ByteBuffer::duplicate)
-            );
+            final Publisher<ByteBuffer> pub;
+            if (this.body instanceof FileRegion) {
+                pub = this.body;
+            } else {
+                pub = Flowable.fromPublisher(this.body).map(ByteBuffer::duplicate);
+            }
+            return this.origin.accept(status, headers, pub);
         }
     }
 }
@@ -8,10 +8,14 @@ package com.artipie.http.rs;
 import com.artipie.http.Connection;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import org.reactivestreams.Publisher;
 
@@ -142,21 +146,44 @@ public final class RsWithHeaders implements Response {
         ) {
             final Headers res;
             if (this.override) {
-                final List<Map.Entry<String, String>> list = new ArrayList<>(10);
-                this.headers.forEach(list::add);
-                hrs.forEach(
-                    item -> {
-                        if (list.stream()
-                            .noneMatch(val -> val.getKey().equalsIgnoreCase(item.getKey()))) {
-                            list.add(item);
-                        }
-                    }
+                res = new Headers.From(
+                    this.headers, Iterables.filter(hrs, ConWithHeaders.notIn(this.headers))
                 );
-                res = new Headers.From(list);
             } else {
                 res = new Headers.From(this.headers, hrs);
             }
             return this.origin.accept(status, res, body);
         }
+
+        /**
+         * Predicate to keep only headers which names are not present in other headers.
+         * <p>
+         * Most of the time only one header is overridden, e.g. {@code Content-Length},
+         * in this case name is compared directly without creating a set of names.
+         * Only names of other headers are filtered out, so origin headers which are
+         * not overridden are kept even if repeated, e.g. several {@code Set-Cookie}.
+         * </p>
+         * @param others Other headers
+         * @return Predicate
+         */
+        private static Predicate<Map.Entry<String, String>> notIn(
+            final Iterable<Map.Entry<String, String>> others
+        ) {
+            final Iterator<Map.Entry<String, String>> iter = others.iterator();
+            final Predicate<Map.Entry<String, String>> res;
+            if (!iter.hasNext()) {
+                res = item -> true;
+            } else {
+                final String first = iter.next().getKey();
+                if (iter.hasNext()) {
+                    final Set<String> names = new HashSet<>();
+                    others.forEach(item -> names.add(item.getKey().toLowerCase(Locale.US)));
+                    res = item -> !names.contains(item.getKey().toLowerCase(Locale.US));
+                } else {
+                    res = item -> !item.getKey().equalsIgnoreCase(first);
+                }
+            }
+            return res;
+        }
     }
 }
@@ -7,13 +7,16 @@ package com.artipie.http.rt;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rq.RqMethod;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Route by HTTP methods rule.
+ * <p>
+ * Methods are kept in {@link EnumSet}, which is a bit mask,
+ * so method check doesn't depend on the number of methods.
+ * </p>
  * @since 0.16
  */
 public final class ByMethodsRule implements RtRule {
@@ -66,19 +69,27 @@ public final class ByMethodsRule implements RtRule {
             final Iterable<Map.Entry<String, String>> headers) {
             return this.origin.apply(line, headers);
         }
+
+        /**
+         * Origin rule.
+         * @return Rule
+         */
+        RtRule origin() {
+            return this.origin;
+        }
     }
 
     /**
      * Method name.
      */
-    private final Set<RqMethod> methods;
+    private final EnumSet<RqMethod> methods;
 
     /**
      * Route by methods.
      * @param methods Method names
      */
     public ByMethodsRule(final RqMethod... methods) {
-        this(new HashSet<>(Arrays.asList(methods)));
+        this(Arrays.asList(methods));
     }
 
     /**
@@ -86,7 +97,16 @@ public final class ByMethodsRule implements RtRule {
      * @param methods Method names
      */
     public ByMethodsRule(final Set<RqMethod> methods) {
-        this.methods = Collections.unmodifiableSet(methods);
+        this((Iterable<RqMethod>) methods);
+    }
+
+    /**
+     * Route by methods.
+     * @param methods Method names
+     */
+    private ByMethodsRule(final Iterable<RqMethod> methods) {
+        this.methods = EnumSet.noneOf(RqMethod.class);
+        methods.forEach(this.methods::add);
     }
 
     @Override
@@ -94,4 +114,12 @@ public final class ByMethodsRule implements RtRule {
         final Iterable<Map.Entry<String, String>> headers) {
         return this.methods.contains(new RequestLineFrom(line).method());
     }
+
+    /**
+     * Methods accepted by this rule.
+     * @return Set of methods
+     */
+    EnumSet<RqMethod> methods() {
+        return EnumSet.copyOf(this.methods);
+    }
 }
@@ -0,0 +1,448 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.reactivestreams.Publisher;
+
+/**
+ * Routes compiled into a prefix tree.
+ * <p>
+ * Each {@link RtRulePath} is decomposed into path pattern, methods and other rules.
+ * Literal prefix of the path pattern is used as a key in the prefix tree, so only
+ * routes which prefix matches request path are checked, and literal path patterns
+ * are compared without regular expressions. Routes without path pattern and other
+ * {@link RtPath} implementations are checked for any request. Routes are always
+ * checked in original order, the first matched route responds.
+ * </p>
+ * @since 1.2
+ */
+final class RouteTrie {
+
+    /**
+     * Regular expression special chars.
+     */
+    private static final String SPECIAL = "[](){}.*+?|^$\\";
+
+    /**
+     * Regular expression quantifiers which makes previous char optional.
+     */
+    private static final String OPTIONAL = "*?{";
+
+    /**
+     * Routes in original order.
+     */
+    private final List<Entry> entries;
+
+    /**
+     * Root node.
+     */
+    private final Node root;
+
+    /**
+     * Compile routes.
+     * @param routes Routes
+     */
+    RouteTrie(final List<RtPath> routes) {
+        this.entries = new ArrayList<>(routes.size());
+        this.root = new Node();
+        for (int idx = 0; idx < routes.size(); ++idx) {
+            final Entry entry = RouteTrie.entry(idx, routes.get(idx));
+            this.entries.add(entry);
+            this.root.put(entry.prefix, 0, entry);
+        }
+    }
+
+    /**
+     * Try respond with first matched route.
+     * @param line Request line
+     * @param headers Request headers
+     * @param body Request body
+     * @return Response if any route matched
+     */
+    Optional<Response> response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final RequestLineFrom rqline = new RequestLineFrom(line);
+        final List<List<Entry>> found = this.candidates(rqline);
+        final int[] cursors = new int[found.size()];
+        Optional<Response> res = Optional.empty();
+        while (!res.isPresent()) {
+            int next = -1;
+            for (int pos = 0; pos < cursors.length; ++pos) {
+                if (cursors[pos] < found.get(pos).size() && (next < 0
+                    || found.get(pos).get(cursors[pos]).index
+                    < found.get(next).get(cursors[next]).index)) {
+                    next = pos;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            final Entry entry = found.get(next).get(cursors[next]);
+            cursors[next] += 1;
+            res = entry.response(rqline, line, headers, body);
+        }
+        return res;
+    }
+
+    /**
+     * Find candidate routes for request.
+     * @param rqline Request line
+     * @return Lists of route entries which may match request
+     */
+    private List<List<Entry>> candidates(final RequestLineFrom rqline) {
+        List<List<Entry>> res;
+        if (this.root.children.isEmpty()) {
+            res = Collections.singletonList(this.root.entries);
+        } else {
+            try {
+                res = this.root.find(rqline.path());
+            } catch (final IllegalArgumentException ignored) {
+                res = Collections.singletonList(this.entries);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Compile route path.
+     * @param idx Route index
+     * @param path Route path
+     * @return Compiled route entry
+     */
+    private static Entry entry(final int idx, final RtPath path) {
+        final Entry res;
+        if (path instanceof RtRulePath) {
+            final RtRulePath rpath = (RtRulePath) path;
+            final List<RtRule> rules = new ArrayList<>(1);
+            RouteTrie.flatten(rpath.rule(), rules);
+            Pattern ptn = null;
+            Set<RqMethod> methods = null;
+            final List<RtRule> rest = new ArrayList<>(rules.size());
+            for (final RtRule rule : rules) {
+                if (ptn == null && rule instanceof RtRule.ByPath) {
+                    ptn = ((RtRule.ByPath) rule).pattern();
+                } else if (methods == null && rule instanceof ByMethodsRule) {
+                    methods = ((ByMethodsRule) rule).methods();
+                } else if (rule != RtRule.FALLBACK) {
+                    rest.add(rule);
+                }
+            }
+            res = new Entry(idx, path, rpath.slice(), ptn, methods, rest);
+        } else {
+            res = new Entry(idx, path);
+        }
+        return res;
+    }
+
+    /**
+     * Flatten rule to the list of rules which all should match.
+     * <p>
+     * Only exact {@link RtRule.All} and {@link RtRule.Multiple} are flattened: their
+     * subclasses may override {@code apply}, so they are kept as is.
+     * </p>
+     * @param rule Rule
+     * @param target Target list
+     */
+    @SuppressWarnings("deprecation")
+    private static void flatten(final RtRule rule, final List<RtRule> target) {
+        if (rule.getClass() == RtRule.All.class || rule.getClass() == RtRule.Multiple.class) {
+            for (final RtRule item : ((RtRule.All) rule).rules()) {
+                RouteTrie.flatten(item, target);
+            }
+        } else if (rule instanceof RtRule.Wrap) {
+            RouteTrie.flatten(((RtRule.Wrap) rule).origin(), target);
+        } else if (rule instanceof ByMethodsRule.Standard) {
+            RouteTrie.flatten(((ByMethodsRule.Standard) rule).origin(), target);
+        } else {
+            target.add(rule);
+        }
+    }
+
+    /**
+     * Literal prefix of all strings matched by pattern.
+     * @param ptn Pattern
+     * @return Prefix and true if pattern matches only this prefix
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static Map.Entry<String, Boolean> literal(final Pattern ptn) {
+        final String src = ptn.pattern();
+        final StringBuilder prefix = new StringBuilder(src.length());
+        boolean exact = ptn.flags() == 0 && !RouteTrie.alternation(src);
+        int pos = 0;
+        if (!src.isEmpty() && src.charAt(0) == '^') {
+            pos = 1;
+        }
+        while (exact && pos < src.length()) {
+            char chr = src.charAt(pos);
+            int step = 1;
+            if (chr == '\\' && pos + 1 < src.length()
+                && !Character.isLetterOrDigit(src.charAt(pos + 1))) {
+                chr = src.charAt(pos + 1);
+                step = 2;
+            } else if (chr == '$' && pos == src.length() - 1) {
+                break;
+            } else if (RouteTrie.SPECIAL.indexOf(chr) >= 0) {
+                exact = false;
+                break;
+            }
+            pos += step;
+            if (pos < src.length() && RouteTrie.OPTIONAL.indexOf(src.charAt(pos)) >= 0) {
+                exact = false;
+                break;
+            }
+            prefix.append(chr);
+            if (pos < src.length() && src.charAt(pos) == '+') {
+                exact = false;
+                break;
+            }
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(prefix.toString(), exact);
+    }
+
+    /**
+     * Check if pattern has top-level alternation.
+     * @param src Pattern source
+     * @return True if pattern has alternation outside of groups
+     */
+    private static boolean alternation(final String src) {
+        boolean res = false;
+        int depth = 0;
+        boolean cls = false;
+        for (int pos = 0; pos < src.length(); ++pos) {
+            final char chr = src.charAt(pos);
+            if (chr == '\\') {
+                ++pos;
+            } else if (cls) {
+                cls = chr != ']';
+            } else if (chr == '[') {
+                cls = true;
+            } else if (chr == '(') {
+                ++depth;
+            } else if (chr == ')') {
+                --depth;
+            } else if (chr == '|' && depth == 0) {
+                res = true;
+                break;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Prefix tree node.
+     * @since 1.2
+     */
+    private static final class Node {
+
+        /**
+         * Child nodes by next char.
+         */
+        private final Map<Character, Node> children;
+
+        /**
+         * Routes with prefix ending at this node in original order.
+         */
+        private final List<Entry> entries;
+
+        /**
+         * New empty node.
+         */
+        Node() {
+            this.children = new HashMap<>(0);
+            this.entries = new ArrayList<>(0);
+        }
+
+        /**
+         * Put route entry into the tree.
+         * @param prefix Route prefix
+         * @param pos Current position in prefix
+         * @param entry Route entry
+         */
+        void put(final String prefix, final int pos, final Entry entry) {
+            if (pos == prefix.length()) {
+                this.entries.add(entry);
+            } else {
+                this.children.computeIfAbsent(prefix.charAt(pos), chr -> new Node())
+                    .put(prefix, pos + 1, entry);
+            }
+        }
+
+        /**
+         * Find all route lists which prefix matches the path.
+         * @param path Request path
+         * @return Lists of route entries
+         */
+        List<List<Entry>> find(final String path) {
+            final List<List<Entry>> res = new ArrayList<>(2);
+            Node node = this;
+            int pos = 0;
+            while (node != null) {
+                if (!node.entries.isEmpty()) {
+                    res.add(node.entries);
+                }
+                if (pos < path.length()) {
+                    node = node.children.get(path.charAt(pos));
+                    ++pos;
+                } else {
+                    node = null;
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Compiled route.
+     * @since 1.2
+     */
+    private static final class Entry {
+
+        /**
+         * Route index.
+         */
+        private final int index;
+
+        /**
+         * Origin route path.
+         */
+        private final RtPath origin;
+
+        /**
+         * Slice under route, null if route was not compiled.
+         */
+        private final Slice slice;
+
+        /**
+         * Literal prefix of path pattern.
+         */
+        private final String prefix;
+
+        /**
+         * Path pattern, null if route has no path pattern or path pattern is literal.
+         */
+        private final Pattern ptn;
+
+        /**
+         * Path should be equal to literal prefix.
+         */
+        private final boolean exact;
+
+        /**
+         * Route methods, null if route accepts any method.
+         */
+        private final Set<RqMethod> methods;
+
+        /**
+         * Other rules.
+         */
+        private final List<RtRule> rest;
+
+        /**
+         * Route entry which was not compiled, it's checked for any request.
+         * @param index Route index
+         * @param origin Origin route path
+         */
+        Entry(final int index, final RtPath origin) {
+            this(index, origin, null, null, null, Collections.emptyList());
+        }
+
+        /**
+         * Compiled route entry.
+         * @param index Route index
+         * @param origin Origin route path
+         * @param slice Slice under route
+         * @param ptn Path pattern
+         * @param methods Route methods
+         * @param rest Other rules
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Entry(final int index, final RtPath origin, final Slice slice, final Pattern ptn,
+            final Set<RqMethod> methods, final List<RtRule> rest) {
+            this.index = index;
+            this.origin = origin;
+            this.slice = slice;
+            this.methods = methods;
+            this.rest = rest;
+            if (ptn == null) {
+                this.prefix = "";
+                this.exact = false;
+                this.ptn = null;
+            } else {
+                final Map.Entry<String, Boolean> literal = RouteTrie.literal(ptn);
+                this.prefix = literal.getKey();
+                this.exact = literal.getValue();
+                if (this.exact) {
+                    this.ptn = null;
+                } else {
+                    this.ptn = ptn;
+                }
+            }
+        }
+
+        /**
+         * Try respond if route matches.
+         * @param rqline Parsed request line
+         * @param line Request line
+         * @param headers Request headers
+         * @param body Request body
+         * @return Response if matched
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Optional<Response> response(final RequestLineFrom rqline, final String line,
+            final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+            final Optional<Response> res;
+            if (this.slice == null) {
+                res = this.origin.response(line, headers, body);
+            } else if (this.matches(rqline, line, headers)) {
+                res = Optional.of(this.slice.response(line, headers, body));
+            } else {
+                res = Optional.empty();
+            }
+            return res;
+        }
+
+        /**
+         * Check route rules.
+         * @param rqline Parsed request line
+         * @param line Request line
+         * @param headers Request headers
+         * @return True if all rules are matched
+         */
+        private boolean matches(final RequestLineFrom rqline, final String line,
+            final Iterable<Map.Entry<String, String>> headers) {
+            boolean match = true;
+            if (this.ptn != null) {
+                match = this.ptn.matcher(rqline.path()).matches();
+            } else if (this.exact) {
+                match = this.prefix.equals(rqline.path());
+            }
+            if (match && this.methods != null) {
+                match = this.methods.contains(rqline.method());
+            }
+            for (int pos = 0; match && pos < this.rest.size(); ++pos) {
+                match = this.rest.get(pos).apply(line, headers);
+            }
+            return match;
+        }
+    }
+}
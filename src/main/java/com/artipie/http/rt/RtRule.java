@@ -100,6 +100,14 @@ public interface RtRule {
             }
             return match;
         }
+
+        /**
+         * Rules to match.
+         * @return Rules
+         */
+        final Iterable<RtRule> rules() {
+            return this.rules;
+        }
     }
 
     /**
@@ -190,9 +198,15 @@ public interface RtRule {
         @Override
         public boolean apply(final String line,
             final Iterable<Map.Entry<String, String>> headers) {
-            return this.ptn.matcher(
-                new RequestLineFrom(line).uri().getPath()
-            ).matches();
+            return this.ptn.matcher(new RequestLineFrom(line).path()).matches();
+        }
+
+        /**
+         * Request URI path pattern.
+         * @return Pattern
+         */
+        Pattern pattern() {
+            return this.ptn;
         }
     }
 
@@ -220,6 +234,14 @@ public interface RtRule {
             final Iterable<Map.Entry<String, String>> headers) {
             return this.origin.apply(line, headers);
         }
+
+        /**
+         * Origin rule.
+         * @return Rule
+         */
+        final RtRule origin() {
+            return this.origin;
+        }
     }
 
     /**
@@ -56,4 +56,20 @@ public final class RtRulePath implements RtPath {
         }
         return res;
     }
+
+    /**
+     * Routing rule of this path.
+     * @return Rule
+     */
+    RtRule rule() {
+        return this.rule;
+    }
+
+    /**
+     * Slice under route.
+     * @return Slice
+     */
+    Slice slice() {
+        return this.slice;
+    }
 }
@@ -36,14 +36,19 @@ import org.reactivestreams.Publisher;
  *   )
  * );
  * </code></pre>
+ * <p>
+ * Routes are compiled into a prefix tree by literal prefixes of path patterns,
+ * so request is checked only against routes which may match its path, but
+ * the first matched route in original order is always used.
+ * </p>
  * @since 0.5
  */
 public final class SliceRoute implements Slice {
 
     /**
-     * Routes.
+     * Compiled routes.
      */
-    private final List<RtPath> routes;
+    private final RouteTrie routes;
 
     /**
      * New slice route.
@@ -58,19 +63,14 @@ public final class SliceRoute implements Slice {
      * @param routes Routes
      */
     public SliceRoute(final List<RtPath> routes) {
-        this.routes = routes;
+        this.routes = new RouteTrie(routes);
     }
 
     @Override
     public Response response(final String line,
         final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        return this.routes.stream()
-            .map(item -> item.response(line, headers, body))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .findFirst()
-            .orElse(
+        return this.routes.response(line, headers, body).orElse(
                 new RsWithBody(
                     new RsWithStatus(RsStatus.NOT_FOUND),
                     "not found", StandardCharsets.UTF_8
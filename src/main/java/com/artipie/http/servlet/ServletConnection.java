@@ -7,12 +7,18 @@ package com.artipie.http.servlet;
 
 import com.artipie.http.Connection;
 import com.artipie.http.Headers;
+import com.artipie.http.rs.FileRegion;
 import com.artipie.http.rs.RsStatus;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import javax.servlet.http.HttpServletResponse;
 import org.cqfn.rio.WriteGreed;
 import org.cqfn.rio.stream.ReactiveOutputStream;
@@ -20,10 +26,28 @@ import org.reactivestreams.Publisher;
 
 /**
  * Connection implementation with servlet response as a back-end.
+ * <p>
+ * {@link FileRegion} bodies are transferred from the file to the response output
+ * stream with {@link FileRegion#transferTo} on a dedicated executor, so they are not
+ * copied through heap buffers of reactive publisher and don't block the caller
+ * thread: if the output stream of the container is a channel, the region is sent
+ * with zero copy, otherwise JDK copies it through direct buffer.
+ * </p>
  * @since 0.18
  */
 final class ServletConnection implements Connection {
 
+    /**
+     * Executor of blocking file region transfers.
+     */
+    private static final Executor TRANSFER = Executors.newCachedThreadPool(
+        runnable -> {
+            final Thread thread = new Thread(runnable, "artipie-file-region");
+            thread.setDaemon(true);
+            return thread;
+        }
+    );
+
     /**
      * Servlet response.
      */
@@ -37,7 +61,7 @@ final class ServletConnection implements Connection {
         this.rsp = rsp;
     }
 
-    // @checkstyle ReturnCountCheck (10 lines)
+    // @checkstyle ReturnCountCheck (20 lines)
     @Override
     @SuppressWarnings("PMD.OnlyOneReturn")
     public CompletionStage<Void> accept(final RsStatus status,
@@ -45,6 +69,9 @@ final class ServletConnection implements Connection {
         this.rsp.setStatus(Integer.parseInt(status.code()));
         headers.forEach(kv -> this.rsp.setHeader(kv.getKey(), kv.getValue()));
         try {
+            if (body instanceof FileRegion) {
+                return ServletConnection.transfer((FileRegion) body, this.rsp.getOutputStream());
+            }
             return new ReactiveOutputStream(this.rsp.getOutputStream())
                 .write(body, WriteGreed.SYSTEM.adaptive());
         } catch (final IOException iex) {
@@ -53,4 +80,30 @@ final class ServletConnection implements Connection {
             return failure;
         }
     }
+
+    /**
+     * Transfer file region to output stream asynchronously.
+     * @param region File region
+     * @param out Output stream
+     * @return Completion stage
+     */
+    private static CompletionStage<Void> transfer(final FileRegion region,
+        final OutputStream out) {
+        final WritableByteChannel chan;
+        if (out instanceof WritableByteChannel) {
+            chan = (WritableByteChannel) out;
+        } else {
+            chan = Channels.newChannel(out);
+        }
+        return CompletableFuture.runAsync(
+            () -> {
+                try {
+                    region.transferTo(chan);
+                } catch (final IOException err) {
+                    throw new CompletionException(err);
+                }
+            },
+            ServletConnection.TRANSFER
+        );
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.http.rq.RqHeaders;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Accept-Encoding request header, see
+ * <a href="https://www.rfc-editor.org/rfc/rfc7231#section-5.3.4">RFC 7231</a>.
+ * @since 1.2
+ */
+final class AcceptEncoding {
+
+    /**
+     * Header name.
+     */
+    static final String NAME = "Accept-Encoding";
+
+    /**
+     * Identity coding.
+     */
+    private static final String IDENTITY = "identity";
+
+    /**
+     * Any coding.
+     */
+    private static final String ANY = "*";
+
+    /**
+     * Quality values by coding name.
+     */
+    private final Map<String, Double> weights;
+
+    /**
+     * Ctor.
+     * @param headers Request headers
+     */
+    AcceptEncoding(final Iterable<Map.Entry<String, String>> headers) {
+        this(new RqHeaders(headers, AcceptEncoding.NAME));
+    }
+
+    /**
+     * Ctor.
+     * @param values Header values
+     */
+    AcceptEncoding(final List<String> values) {
+        this.weights = new HashMap<>();
+        for (final String value : values) {
+            for (final String item : value.split(",")) {
+                AcceptEncoding.parse(item, this.weights);
+            }
+        }
+    }
+
+    /**
+     * Select the best coding.
+     * <p>
+     * Codings with greater quality are preferred, codings with equal quality are
+     * preferred in the order of the list. Identity is selected if request has no
+     * {@code Accept-Encoding} header, if no coding is acceptable or if identity is
+     * listed explicitly (or by {@code *}) with greater quality than any of codings.
+     * </p>
+     * @param codings Available codings in preference order
+     * @return Coding or empty for identity
+     */
+    Optional<ContentCoding> select(final List<ContentCoding> codings) {
+        Optional<ContentCoding> res = Optional.empty();
+        if (!this.weights.isEmpty()) {
+            double best = 0;
+            for (final ContentCoding coding : codings) {
+                final double weight = this.weight(coding.name());
+                if (weight > best) {
+                    best = weight;
+                    res = Optional.of(coding);
+                }
+            }
+            final Double identity = this.weights.getOrDefault(
+                AcceptEncoding.IDENTITY, this.weights.getOrDefault(AcceptEncoding.ANY, 0.0)
+            );
+            if (identity > best) {
+                res = Optional.empty();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Quality of the coding.
+     * @param name Coding name
+     * @return Quality, zero if coding is not acceptable
+     */
+    private double weight(final String name) {
+        Double res = this.weights.get(name);
+        if (res == null && "gzip".equals(name)) {
+            res = this.weights.get("x-gzip");
+        }
+        if (res == null) {
+            res = this.weights.getOrDefault(AcceptEncoding.ANY, 0.0);
+        }
+        return res;
+    }
+
+    /**
+     * Parse coding with optional quality value.
+     * @param item Header item, e.g. {@code gzip;q=0.8}
+     * @param target Target map
+     */
+    private static void parse(final String item, final Map<String, Double> target) {
+        final String[] parts = item.split(";");
+        final String name = parts[0].trim().toLowerCase(Locale.US);
+        double weight = 1.0;
+        boolean valid = !name.isEmpty();
+        for (int idx = 1; valid && idx < parts.length; ++idx) {
+            final String param = parts[idx].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q')
+                && param.charAt(1) == '=') {
+                try {
+                    weight = Double.parseDouble(param.substring(2).trim());
+                    valid = weight >= 0 && weight <= 1;
+                } catch (final NumberFormatException ignored) {
+                    valid = false;
+                }
+            }
+        }
+        if (valid) {
+            target.put(name, weight);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Byte range of the content, see
+ * <a href="https://www.rfc-editor.org/rfc/rfc7233#section-2.1">RFC 7233</a>.
+ * @since 1.2
+ */
+final class ByteRange {
+
+    /**
+     * Max number of ranges in one request, requests with more ranges are
+     * served with full content.
+     */
+    private static final int MAX = 64;
+
+    /**
+     * Bytes range unit prefix.
+     */
+    private static final String UNIT = "bytes=";
+
+    /**
+     * Max length of position number to avoid overflow.
+     */
+    private static final int DIGITS = 18;
+
+    /**
+     * First byte position.
+     */
+    private final long first;
+
+    /**
+     * Last byte position, inclusive.
+     */
+    private final long last;
+
+    /**
+     * Ctor.
+     * @param first First byte position
+     * @param last Last byte position, inclusive
+     */
+    ByteRange(final long first, final long last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * First byte position.
+     * @return Position
+     */
+    long start() {
+        return this.first;
+    }
+
+    /**
+     * Last byte position, inclusive.
+     * @return Position
+     */
+    long end() {
+        return this.last;
+    }
+
+    /**
+     * Range length.
+     * @return Number of bytes
+     */
+    long length() {
+        return this.last - this.first + 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d-%d", this.first, this.last);
+    }
+
+    /**
+     * Parse {@code Range} header value for the content of given size.
+     * <p>
+     * Satisfiable ranges are sorted, overlapping and adjacent ranges are coalesced.
+     * Empty result means that the header should be ignored and full content served:
+     * it has unknown unit, invalid syntax or too many ranges. Empty list of ranges
+     * means that no range is satisfiable.
+     * </p>
+     * @param header Range header value
+     * @param size Content size
+     * @return Ranges if header should be applied
+     */
+    static Optional<List<ByteRange>> parse(final String header, final long size) {
+        final String value = header.trim();
+        Optional<List<ByteRange>> res = Optional.empty();
+        if (value.length() > ByteRange.UNIT.length() && value.regionMatches(
+            true, 0, ByteRange.UNIT, 0, ByteRange.UNIT.length()
+        )) {
+            final String[] specs = value.substring(ByteRange.UNIT.length()).split(",");
+            final List<ByteRange> ranges = new ArrayList<>(specs.length);
+            boolean valid = specs.length <= ByteRange.MAX;
+            for (int idx = 0; valid && idx < specs.length; ++idx) {
+                valid = ByteRange.spec(specs[idx].trim(), size, ranges);
+            }
+            if (valid) {
+                res = Optional.of(ByteRange.coalesce(ranges));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Parse single range spec and add it to the list if it's satisfiable.
+     * @param spec Range spec, empty spec is ignored
+     * @param size Content size
+     * @param ranges Satisfiable ranges
+     * @return False if spec is invalid
+     */
+    private static boolean spec(final String spec, final long size, final List<ByteRange> ranges) {
+        final int dash = spec.indexOf('-');
+        boolean res = spec.isEmpty();
+        if (dash >= 0) {
+            final String from = spec.substring(0, dash).trim();
+            final String till = spec.substring(dash + 1).trim();
+            if (from.isEmpty()) {
+                res = ByteRange.number(till);
+                if (res && size > 0 && Long.parseLong(till) > 0) {
+                    ranges.add(
+                        new ByteRange(Math.max(0, size - Long.parseLong(till)), size - 1)
+                    );
+                }
+            } else if (ByteRange.number(from) && (till.isEmpty() || ByteRange.number(till))) {
+                final long start = Long.parseLong(from);
+                long end = size - 1;
+                if (!till.isEmpty()) {
+                    end = Long.parseLong(till);
+                }
+                res = end >= start || till.isEmpty();
+                if (res && start < size) {
+                    ranges.add(new ByteRange(start, Math.min(end, size - 1)));
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Sort ranges and merge overlapping and adjacent ones.
+     * @param ranges Ranges
+     * @return Sorted disjoint ranges
+     */
+    private static List<ByteRange> coalesce(final List<ByteRange> ranges) {
+        final List<ByteRange> res;
+        if (ranges.size() < 2) {
+            res = ranges;
+        } else {
+            final List<ByteRange> sorted = new ArrayList<>(ranges);
+            sorted.sort(Comparator.comparingLong(ByteRange::start));
+            res = new ArrayList<>(sorted.size());
+            ByteRange cur = sorted.get(0);
+            for (final ByteRange next : sorted.subList(1, sorted.size())) {
+                if (next.first <= cur.last + 1) {
+                    cur = new ByteRange(cur.first, Math.max(cur.last, next.last));
+                } else {
+                    res.add(cur);
+                    cur = next;
+                }
+            }
+            res.add(cur);
+        }
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Check if string is a non-negative decimal number.
+     * @param str String
+     * @return True if number
+     */
+    private static boolean number(final String str) {
+        boolean res = !str.isEmpty() && str.length() <= ByteRange.DIGITS;
+        for (int pos = 0; res && pos < str.length(); ++pos) {
+            final char chr = str.charAt(pos);
+            res = chr >= '0' && chr <= '9';
+        }
+        return res;
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.misc.ByteBufferPool;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice which caches {@code GET} and {@code HEAD} responses in shared {@link ResponseCache}.
+ * <p>
+ * Cache key is slice namespace, request method, path with query and values of request
+ * headers the response varies by. Namespace separates slices sharing one cache, e.g.
+ * repositories behind {@link TrimPathSlice} with the same trimmed paths: slices with
+ * the same namespace share entries and invalidations, by default each slice has
+ * its own namespace. On cache miss origin response body is streamed to the client
+ * and copied to pooled off-heap chunks at the same time, response is cached only when
+ * the body was read completely, fits cache entry limit and the path was not invalidated
+ * since the miss started. Only {@code 200 OK} responses are
+ * cached, responses with {@code Cache-Control: no-store}, {@code private} or
+ * {@code no-cache}, with {@code Set-Cookie} or varying by other request headers are
+ * not cached. Other methods bypass the cache and invalidate cached responses of the
+ * path. The slice doesn't check authorization, so it should be wrapped by
+ * authentication slices if responses depend on the user.
+ * </p>
+ * @since 1.2
+ */
+public final class CachedSlice implements Slice {
+
+    /**
+     * Vary header name.
+     */
+    private static final String VARY = "Vary";
+
+    /**
+     * Default namespaces counter.
+     */
+    private static final AtomicLong NAMESPACES = new AtomicLong();
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Response cache.
+     */
+    private final ResponseCache cache;
+
+    /**
+     * Cache namespace.
+     */
+    private final String namespace;
+
+    /**
+     * Request headers names the responses vary by, lower case.
+     */
+    private final List<String> vary;
+
+    /**
+     * Cache responses varying by {@code Accept-Encoding}.
+     * @param origin Origin slice
+     * @param cache Response cache
+     */
+    public CachedSlice(final Slice origin, final ResponseCache cache) {
+        this(origin, cache, AcceptEncoding.NAME);
+    }
+
+    /**
+     * Slice with own cache namespace.
+     * @param origin Origin slice
+     * @param cache Response cache
+     * @param vary Request headers names the responses may vary by
+     */
+    public CachedSlice(final Slice origin, final ResponseCache cache, final String... vary) {
+        this(
+            origin, cache, String.format("#%d", CachedSlice.NAMESPACES.incrementAndGet()),
+            Arrays.asList(vary)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin slice
+     * @param cache Response cache
+     * @param namespace Cache namespace, e.g. repository name
+     * @param vary Request headers names the responses may vary by
+     */
+    public CachedSlice(final Slice origin, final ResponseCache cache, final String namespace,
+        final Collection<String> vary) {
+        this.origin = origin;
+        this.cache = cache;
+        this.namespace = namespace;
+        final List<String> names = new ArrayList<>(vary.size());
+        for (final String name : vary) {
+            names.add(name.toLowerCase(Locale.US));
+        }
+        this.vary = Collections.unmodifiableList(names);
+    }
+
+    @Override
+    public Response response(final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final RequestLineFrom rqline = new RequestLineFrom(line);
+        final RqMethod method = rqline.method();
+        final String path = this.scoped(rqline.rawPath());
+        final Response res;
+        if (method == RqMethod.GET || method == RqMethod.HEAD) {
+            final String key = this.scoped(
+                ResponseCache.key(method, rqline.uri().toString(), this.values(headers))
+            );
+            final Optional<ResponseCache.Entry> cached = this.cache.get(key);
+            if (cached.isPresent()) {
+                res = cached.get().response();
+            } else {
+                final long generation = this.cache.generation();
+                final Response rsp = this.origin.response(line, headers, body);
+                res = connection -> rsp.send(
+                    (status, rsheaders, rsbody) -> {
+                        final Publisher<ByteBuffer> out;
+                        if (this.cacheable(status, rsheaders)) {
+                            out = this.tee(
+                                new Miss(key, path, generation), status, rsheaders, rsbody
+                            );
+                        } else {
+                            out = rsbody;
+                        }
+                        return connection.accept(status, rsheaders, out);
+                    }
+                );
+            }
+        } else {
+            this.cache.invalidate(path);
+            final Response rsp = this.origin.response(line, headers, body);
+            res = connection -> rsp.send(connection).thenRun(() -> this.cache.invalidate(path));
+        }
+        return res;
+    }
+
+    /**
+     * Cache key or path in slice namespace.
+     * @param value Key or path
+     * @return Scoped value
+     */
+    private String scoped(final String value) {
+        return new StringBuilder(this.namespace.length() + value.length() + 1)
+            .append(this.namespace).append(' ').append(value).toString();
+    }
+
+    /**
+     * Values of request headers the responses vary by.
+     * @param headers Request headers
+     * @return Values joined by new line
+     */
+    private String values(final Iterable<Map.Entry<String, String>> headers) {
+        final StringBuilder res = new StringBuilder();
+        for (final String name : this.vary) {
+            res.append(String.join(",", new RqHeaders(headers, name))).append('\n');
+        }
+        return res.toString();
+    }
+
+    /**
+     * Check if response can be cached.
+     * @param status Response status
+     * @param headers Response headers
+     * @return True if cacheable
+     */
+    private boolean cacheable(final RsStatus status, final Headers headers) {
+        boolean res = status == RsStatus.OK && !headers.first("Set-Cookie").isPresent();
+        for (final String value : headers.all("Cache-Control")) {
+            final String lower = value.toLowerCase(Locale.US);
+            res = res && !lower.contains("no-store") && !lower.contains("private")
+                && !lower.contains("no-cache");
+        }
+        for (final String value : headers.all(CachedSlice.VARY)) {
+            for (final String item : value.split(",")) {
+                final String name = item.trim().toLowerCase(Locale.US);
+                res = res && (name.isEmpty() || this.vary.contains(name));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Body which is copied to the cache while being read.
+     * @param miss Cache miss
+     * @param status Response status
+     * @param headers Response headers
+     * @param body Origin body
+     * @return Body publisher
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Publisher<ByteBuffer> tee(final Miss miss, final RsStatus status,
+        final Headers headers, final Publisher<ByteBuffer> body) {
+        return Flowable.defer(
+            () -> {
+                final Recorder recorder = new Recorder(this.cache.limit(), this.cache.pool());
+                return Flowable.fromPublisher(body)
+                    .doOnNext(recorder::write)
+                    .doOnComplete(
+                        () -> {
+                            final Optional<List<ByteBuffer>> chunks = recorder.chunks();
+                            if (chunks.isPresent() && !this.cache.put(
+                                miss.key, miss.path, miss.generation, status, headers,
+                                chunks.get()
+                            )) {
+                                recorder.discard();
+                            }
+                        }
+                    )
+                    .doOnError(err -> recorder.discard())
+                    .doOnCancel(recorder::discard);
+            }
+        );
+    }
+
+    /**
+     * Cache miss.
+     * @since 1.2
+     */
+    private static final class Miss {
+
+        /**
+         * Cache key.
+         */
+        private final String key;
+
+        /**
+         * Request path without query.
+         */
+        private final String path;
+
+        /**
+         * Invalidation generation taken before origin request.
+         */
+        private final long generation;
+
+        /**
+         * Ctor.
+         * @param key Cache key
+         * @param path Request path without query
+         * @param generation Invalidation generation
+         */
+        Miss(final String key, final String path, final long generation) {
+            this.key = key;
+            this.path = path;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Copies body buffers into off-heap chunks taken from the pool.
+     * <p>
+     * Chunk capacity doubles from the first body buffer size up to 64 KB, so small
+     * bodies take small chunks and the last chunk is never copied again. Chunks of
+     * discarded recordings are released to the pool.
+     * </p>
+     * @since 1.2
+     */
+    private static final class Recorder {
+
+        /**
+         * Max chunk size.
+         */
+        private static final int CHUNK = 64 * 1024;
+
+        /**
+         * Max body size.
+         */
+        private final long limit;
+
+        /**
+         * Chunks pool.
+         */
+        private final ByteBufferPool pool;
+
+        /**
+         * Chunks.
+         */
+        private final List<ByteBuffer> chunks;
+
+        /**
+         * Body size.
+         */
+        private long size;
+
+        /**
+         * Ctor.
+         * @param limit Max body size
+         * @param pool Chunks pool
+         */
+        Recorder(final long limit, final ByteBufferPool pool) {
+            this.limit = limit;
+            this.pool = pool;
+            this.chunks = new ArrayList<>(1);
+        }
+
+        /**
+         * Copy buffer, it's not modified.
+         * @param buf Body buffer
+         */
+        synchronized void write(final ByteBuffer buf) {
+            if (this.size <= this.limit) {
+                this.size += buf.remaining();
+                if (this.size > this.limit) {
+                    this.release();
+                } else {
+                    this.copy(buf.duplicate());
+                }
+            }
+        }
+
+        /**
+         * Recorded chunks.
+         * @return Flipped chunks if body fits the limit
+         */
+        synchronized Optional<List<ByteBuffer>> chunks() {
+            final Optional<List<ByteBuffer>> res;
+            if (this.size > this.limit) {
+                res = Optional.empty();
+            } else {
+                final List<ByteBuffer> list = new ArrayList<>(this.chunks.size());
+                for (final ByteBuffer chunk : this.chunks) {
+                    chunk.flip();
+                    list.add(chunk);
+                }
+                res = Optional.of(list);
+            }
+            return res;
+        }
+
+        /**
+         * Discard recording and release chunks to the pool.
+         */
+        synchronized void discard() {
+            this.size = Long.MAX_VALUE;
+            this.release();
+        }
+
+        /**
+         * Copy source buffer to chunks.
+         * @param src Source buffer
+         */
+        private void copy(final ByteBuffer src) {
+            while (src.hasRemaining()) {
+                if (this.chunks.isEmpty()
+                    || !this.chunks.get(this.chunks.size() - 1).hasRemaining()) {
+                    int cap = src.remaining();
+                    if (!this.chunks.isEmpty()) {
+                        cap = Math.max(cap, this.chunks.get(this.chunks.size() - 1).limit() * 2);
+                    }
+                    this.chunks.add(this.pool.acquire(Math.min(cap, Recorder.CHUNK)));
+                }
+                final ByteBuffer dst = this.chunks.get(this.chunks.size() - 1);
+                final int len = Math.min(src.remaining(), dst.remaining());
+                final ByteBuffer part = src.duplicate();
+                part.limit(part.position() + len);
+                dst.put(part);
+                src.position(src.position() + len);
+            }
+        }
+
+        /**
+         * Release chunks to the pool.
+         */
+        private void release() {
+            for (final ByteBuffer chunk : this.chunks) {
+                this.pool.release(chunk);
+            }
+            this.chunks.clear();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice which coalesces concurrent identical {@code GET} and {@code HEAD} requests
+ * into one origin request.
+ * <p>
+ * Requests are identical if they have the same method, path with query, credentials
+ * ({@code Authorization} and {@code Cookie} headers) and values of the configured request
+ * headers, so requests of different users are never coalesced and the slice may wrap
+ * slices which check authorization. The first request of the key is sent to the origin,
+ * requests which arrive before the origin responds with status and headers wait for
+ * the same response. Origin body is read once and fanned out to each waiting connection
+ * with its own backpressure through bounded buffer: buffered bytes between the slowest
+ * and the fastest connection are limited by the window, so the fastest connection reads
+ * ahead only inside the window and large bodies are not kept in memory. Connection stops
+ * holding the buffer when it completes or cancels the body, or when it fails to accept
+ * the response. Requests which join after the body was partially dropped are sent
+ * to the origin separately.
+ * Other methods are passed to the origin as is.
+ * </p>
+ * @since 1.2
+ */
+public final class CoalescingSlice implements Slice {
+
+    /**
+     * Default fan-out window: 1 MB.
+     */
+    private static final long WINDOW = 1024 * 1024;
+
+    /**
+     * Credential headers which always distinguish requests.
+     */
+    private static final List<String> CREDENTIALS = Arrays.asList("Authorization", "Cookie");
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Fan-out window in bytes.
+     */
+    private final long window;
+
+    /**
+     * Request headers names which distinguish requests.
+     */
+    private final List<String> vary;
+
+    /**
+     * In-flight requests by key.
+     */
+    private final ConcurrentMap<String, Flight> flights;
+
+    /**
+     * Coalesce requests with the same {@code Accept-Encoding}.
+     * @param origin Origin slice
+     */
+    public CoalescingSlice(final Slice origin) {
+        this(origin, AcceptEncoding.NAME);
+    }
+
+    /**
+     * Coalesce requests with default fan-out window.
+     * @param origin Origin slice
+     * @param vary Request headers names which distinguish requests
+     */
+    public CoalescingSlice(final Slice origin, final String... vary) {
+        this(origin, CoalescingSlice.WINDOW, vary);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin slice
+     * @param window Max buffered bytes between the slowest and the fastest connection
+     * @param vary Request headers names which distinguish requests
+     */
+    public CoalescingSlice(final Slice origin, final long window, final String... vary) {
+        this.origin = origin;
+        this.window = window;
+        final List<String> names = new ArrayList<>(vary.length + 2);
+        names.addAll(CoalescingSlice.CREDENTIALS);
+        names.addAll(Arrays.asList(vary));
+        this.vary = Collections.unmodifiableList(names);
+        this.flights = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Response response(final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final RequestLineFrom rqline = new RequestLineFrom(line);
+        final RqMethod method = rqline.method();
+        final Response res;
+        if (method == RqMethod.GET || method == RqMethod.HEAD) {
+            final StringBuilder values = new StringBuilder();
+            for (final String name : this.vary) {
+                values.append(String.join(",", new RqHeaders(headers, name))).append('\n');
+            }
+            final String key = ResponseCache.key(
+                method, rqline.uri().toString(), values.toString()
+            );
+            final Flight flight = this.flights.computeIfAbsent(
+                key, ignored -> new Flight(
+                    key, () -> this.origin.response(line, headers, body)
+                )
+            );
+            res = connection -> {
+                final Optional<FanOut.Slot> slot = flight.fanout.slot();
+                final CompletionStage<Void> sent;
+                if (slot.isPresent()) {
+                    sent = flight.start().thenCompose(
+                        result -> connection.accept(result.status, result.headers, slot.get())
+                    ).whenComplete(
+                        (none, err) -> {
+                            if (err != null) {
+                                slot.get().release();
+                            }
+                        }
+                    );
+                } else {
+                    sent = this.origin.response(line, headers, body).send(connection);
+                }
+                return sent;
+            };
+        } else {
+            res = this.origin.response(line, headers, body);
+        }
+        return res;
+    }
+
+    /**
+     * One origin request shared by waiting connections.
+     * @since 1.2
+     */
+    private final class Flight {
+
+        /**
+         * Flight key.
+         */
+        private final String key;
+
+        /**
+         * Origin response supplier.
+         */
+        private final Supplier<Response> response;
+
+        /**
+         * Body fan-out.
+         */
+        private final FanOut fanout;
+
+        /**
+         * Started flag.
+         */
+        private final AtomicBoolean started;
+
+        /**
+         * Shared result.
+         */
+        private final CompletableFuture<Result> result;
+
+        /**
+         * Ctor.
+         * @param key Flight key
+         * @param response Origin response supplier
+         */
+        Flight(final String key, final Supplier<Response> response) {
+            this.key = key;
+            this.response = response;
+            this.fanout = new FanOut(CoalescingSlice.this.window);
+            this.started = new AtomicBoolean();
+            this.result = new CompletableFuture<>();
+        }
+
+        /**
+         * Send origin request once.
+         * @return Shared result future
+         */
+        CompletionStage<Result> start() {
+            if (this.started.compareAndSet(false, true)) {
+                try {
+                    this.response.get().send(
+                        (status, headers, body) -> {
+                            final CompletableFuture<Void> done = new CompletableFuture<>();
+                            this.fanout.connect(
+                                Flowable.fromPublisher(body)
+                                    .doOnComplete(() -> done.complete(null))
+                                    .doOnError(done::completeExceptionally)
+                                    .doOnCancel(() -> done.complete(null))
+                            );
+                            this.complete(new Result(status, headers));
+                            return done;
+                        }
+                    ).whenComplete(
+                        (none, err) -> {
+                            if (err != null) {
+                                this.fail(err);
+                            }
+                        }
+                    );
+                } catch (final RuntimeException err) {
+                    this.fail(err);
+                }
+            }
+            return this.result;
+        }
+
+        /**
+         * Complete waiting connections with the result.
+         * @param res Result
+         */
+        private void complete(final Result res) {
+            CoalescingSlice.this.flights.remove(this.key, this);
+            this.result.complete(res);
+        }
+
+        /**
+         * Fail waiting connections.
+         * @param err Error
+         */
+        private void fail(final Throwable err) {
+            CoalescingSlice.this.flights.remove(this.key, this);
+            this.result.completeExceptionally(err);
+        }
+    }
+
+    /**
+     * Origin response status and headers.
+     * @since 1.2
+     */
+    private static final class Result {
+
+        /**
+         * Response status.
+         */
+        private final RsStatus status;
+
+        /**
+         * Response headers.
+         */
+        private final Headers headers;
+
+        /**
+         * Ctor.
+         * @param status Response status
+         * @param headers Response headers
+         */
+        Result(final RsStatus status, final Headers headers) {
+            this.status = status;
+            this.headers = headers;
+        }
+    }
+}
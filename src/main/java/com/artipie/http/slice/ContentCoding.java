@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import java.nio.ByteBuffer;
+import org.reactivestreams.Publisher;
+
+/**
+ * HTTP content coding, see
+ * <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Content-Encoding">Content-Encoding</a>.
+ * <p>
+ * Additional codings (e.g. {@code br} or {@code zstd}) can be registered with
+ * {@link java.util.ServiceLoader} in
+ * {@code META-INF/services/com.artipie.http.slice.ContentCoding}, they are picked up
+ * by {@link WithEncodingSlice}.
+ * </p>
+ * @since 1.2
+ */
+public interface ContentCoding {
+
+    /**
+     * Coding name as in {@code Accept-Encoding} and {@code Content-Encoding} headers.
+     * @return Name in lower case
+     */
+    String name();
+
+    /**
+     * Encode body.
+     * @param body Body
+     * @return Encoded body
+     */
+    Publisher<ByteBuffer> encode(Publisher<ByteBuffer> body);
+
+    /**
+     * Gzip coding.
+     * @since 1.2
+     */
+    final class Gzip implements ContentCoding {
+
+        @Override
+        public String name() {
+            return "gzip";
+        }
+
+        @Override
+        public Publisher<ByteBuffer> encode(final Publisher<ByteBuffer> body) {
+            return new Deflated(body, true);
+        }
+    }
+
+    /**
+     * Deflate coding: zlib format with deflate compression.
+     * @since 1.2
+     */
+    final class Deflate implements ContentCoding {
+
+        @Override
+        public String name() {
+            return "deflate";
+        }
+
+        @Override
+        public Publisher<ByteBuffer> encode(final Publisher<ByteBuffer> body) {
+            return new Deflated(body, false);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Publisher of compressed origin bytes.
+ * <p>
+ * Each origin buffer is compressed with {@link Deflater} as soon as it arrives,
+ * compressed chunks are emitted according to downstream demand. Only one origin
+ * buffer is compressed at a time, so memory usage doesn't depend on body size.
+ * Output is in gzip format (RFC 1952) or zlib format (RFC 1950) used by
+ * {@code deflate} content coding.
+ * </p>
+ * @since 1.2
+ */
+final class Deflated implements Publisher<ByteBuffer> {
+
+    /**
+     * Gzip header: magic, deflate method, no flags, no time, no extra flags, unknown OS.
+     */
+    private static final byte[] GZIP_HEADER = {
+        (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff,
+    };
+
+    /**
+     * Gzip trailer size.
+     */
+    private static final int GZIP_TRAILER = 8;
+
+    /**
+     * Compressed chunk size.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * Origin publisher.
+     */
+    private final Publisher<ByteBuffer> origin;
+
+    /**
+     * Gzip format if true, zlib format otherwise.
+     */
+    private final boolean gzip;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Compress origin with default compression level.
+     * @param origin Origin publisher
+     * @param gzip Gzip format if true, zlib format otherwise
+     */
+    Deflated(final Publisher<ByteBuffer> origin, final boolean gzip) {
+        this(origin, gzip, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin publisher
+     * @param gzip Gzip format if true, zlib format otherwise
+     * @param level Compression level
+     */
+    Deflated(final Publisher<ByteBuffer> origin, final boolean gzip, final int level) {
+        this.origin = origin;
+        this.gzip = gzip;
+        this.level = level;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+        Flowable.defer(
+            () -> {
+                final Encoder encoder = new Encoder(this.gzip, this.level);
+                return Flowable.fromPublisher(this.origin)
+                    .concatMapIterable(encoder::update, 2)
+                    .concatWith(Flowable.defer(() -> Flowable.fromIterable(encoder.finish())))
+                    .doFinally(encoder::close);
+            }
+        ).subscribe(subscriber);
+    }
+
+    /**
+     * Stateful encoder of one publisher subscription.
+     * @since 1.2
+     */
+    private static final class Encoder {
+
+        /**
+         * Deflater.
+         */
+        private final Deflater deflater;
+
+        /**
+         * Checksum of uncompressed data, null for zlib format.
+         */
+        private final CRC32 crc;
+
+        /**
+         * Output chunk buffer.
+         */
+        private final byte[] chunk;
+
+        /**
+         * Gzip header was emitted.
+         */
+        private boolean started;
+
+        /**
+         * Ctor.
+         * @param gzip Gzip format if true, zlib format otherwise
+         * @param level Compression level
+         */
+        Encoder(final boolean gzip, final int level) {
+            this.deflater = new Deflater(level, gzip);
+            if (gzip) {
+                this.crc = new CRC32();
+            } else {
+                this.crc = null;
+            }
+            this.chunk = new byte[Deflated.CHUNK];
+        }
+
+        /**
+         * Compress next origin buffer.
+         * @param buf Origin buffer, it's not modified
+         * @return Compressed chunks, may be empty
+         */
+        List<ByteBuffer> update(final ByteBuffer buf) {
+            final List<ByteBuffer> res = new ArrayList<>(1);
+            this.start(res);
+            final byte[] arr;
+            final int off;
+            if (buf.hasArray()) {
+                arr = buf.array();
+                off = buf.arrayOffset() + buf.position();
+            } else {
+                arr = new byte[buf.remaining()];
+                buf.duplicate().get(arr);
+                off = 0;
+            }
+            if (this.crc != null) {
+                this.crc.update(arr, off, buf.remaining());
+            }
+            this.deflater.setInput(arr, off, buf.remaining());
+            while (!this.deflater.needsInput()) {
+                this.drain(res);
+            }
+            return res;
+        }
+
+        /**
+         * Finish compression.
+         * @return Last compressed chunks
+         */
+        List<ByteBuffer> finish() {
+            final List<ByteBuffer> res = new ArrayList<>(2);
+            this.start(res);
+            this.deflater.finish();
+            while (!this.deflater.finished()) {
+                this.drain(res);
+            }
+            if (this.crc != null) {
+                final ByteBuffer trailer = ByteBuffer.allocate(Deflated.GZIP_TRAILER);
+                Encoder.putInt(trailer, this.crc.getValue());
+                Encoder.putInt(trailer, this.deflater.getBytesRead());
+                trailer.flip();
+                res.add(trailer);
+            }
+            return res;
+        }
+
+        /**
+         * Release deflater.
+         */
+        void close() {
+            this.deflater.end();
+        }
+
+        /**
+         * Add gzip header if needed.
+         * @param res Output chunks
+         */
+        private void start(final List<ByteBuffer> res) {
+            if (!this.started && this.crc != null) {
+                res.add(ByteBuffer.wrap(Deflated.GZIP_HEADER).asReadOnlyBuffer());
+            }
+            this.started = true;
+        }
+
+        /**
+         * Deflate into output chunk.
+         * @param res Output chunks
+         */
+        private void drain(final List<ByteBuffer> res) {
+            final int len = this.deflater.deflate(this.chunk);
+            if (len > 0) {
+                res.add(ByteBuffer.wrap(Arrays.copyOf(this.chunk, len)));
+            }
+        }
+
+        /**
+         * Put 32-bit little-endian integer.
+         * @param buf Target buffer
+         * @param value Value, only low 32 bits are written
+         */
+        private static void putInt(final ByteBuffer buf, final long value) {
+            // @checkstyle MagicNumberCheck (4 lines)
+            buf.put((byte) value);
+            buf.put((byte) (value >> 8));
+            buf.put((byte) (value >> 16));
+            buf.put((byte) (value >> 24));
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.http.misc.DummySubscription;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Fan-out of one upstream body to registered slots with bounded buffer.
+ * <p>
+ * Each slot is a publisher for one subscriber which gets all upstream buffers as
+ * duplicates. Upstream is subscribed on the first slot subscription and is requested
+ * one buffer at a time while buffered bytes between the slowest and the fastest slot
+ * are below the window: the fastest slot drives upstream inside the window, the slowest
+ * one bounds memory usage. Buffers are dropped as soon as all slots received them, new
+ * slots can be registered until the first buffer is dropped. Slots which are released
+ * without subscription and cancelled slots don't hold the buffer, upstream is cancelled
+ * when all slots are cancelled or released. Registered slot must be either subscribed
+ * or released, otherwise other slots wait for it when the window is full.
+ * </p>
+ * @since 1.2
+ */
+final class FanOut {
+
+    /**
+     * Max buffered bytes.
+     */
+    private final long window;
+
+    /**
+     * Registered slots.
+     */
+    private final List<Slot> slots;
+
+    /**
+     * Received upstream buffers which are not moved to the buffer yet.
+     */
+    private final Queue<ByteBuffer> incoming;
+
+    /**
+     * Work in progress counter of drain loop.
+     */
+    private final AtomicInteger wip;
+
+    /**
+     * Buffered upstream buffers, accessed by drain loop.
+     */
+    private final List<ByteBuffer> buffer;
+
+    /**
+     * Index of the first buffered item in the buffer list, accessed by drain loop.
+     */
+    private int head;
+
+    /**
+     * Sequence number of the first buffered item.
+     */
+    private long base;
+
+    /**
+     * Buffered bytes, accessed by drain loop.
+     */
+    private long bytes;
+
+    /**
+     * Upstream request is not answered yet, accessed by drain loop.
+     */
+    private boolean pending;
+
+    /**
+     * Upstream was subscribed, accessed by drain loop.
+     */
+    private boolean subscribed;
+
+    /**
+     * New slots can't be registered.
+     */
+    private boolean closed;
+
+    /**
+     * Upstream body.
+     */
+    private volatile Publisher<ByteBuffer> upstream;
+
+    /**
+     * Upstream subscription.
+     */
+    private volatile Subscription subscription;
+
+    /**
+     * Upstream completed.
+     */
+    private volatile boolean done;
+
+    /**
+     * Upstream error.
+     */
+    private volatile Throwable error;
+
+    /**
+     * Ctor.
+     * @param window Max buffered bytes
+     */
+    FanOut(final long window) {
+        this.window = window;
+        this.slots = new CopyOnWriteArrayList<>();
+        this.incoming = new ConcurrentLinkedQueue<>();
+        this.wip = new AtomicInteger();
+        this.buffer = new ArrayList<>(0);
+    }
+
+    /**
+     * Register new slot.
+     * @return Slot or empty if upstream buffers were dropped already
+     */
+    synchronized Optional<Slot> slot() {
+        final Optional<Slot> res;
+        if (this.closed) {
+            res = Optional.empty();
+        } else {
+            final Slot slot = new Slot();
+            this.slots.add(slot);
+            res = Optional.of(slot);
+        }
+        return res;
+    }
+
+    /**
+     * Connect upstream body, it's subscribed on first slot subscription.
+     * @param body Upstream body
+     */
+    void connect(final Publisher<ByteBuffer> body) {
+        this.upstream = body;
+        this.drain();
+    }
+
+    /**
+     * Deliver buffers and terminal signals to slots and request upstream.
+     * @checkstyle CyclomaticComplexityCheck (80 lines)
+     * @checkstyle ExecutableStatementCountCheck (80 lines)
+     */
+    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
+    private void drain() {
+        if (this.wip.getAndIncrement() == 0) {
+            int missed = 1;
+            while (missed != 0) {
+                final boolean finished = this.done;
+                ByteBuffer next = this.incoming.poll();
+                while (next != null) {
+                    this.buffer.add(next);
+                    this.bytes += next.remaining();
+                    this.pending = false;
+                    next = this.incoming.poll();
+                }
+                final long produced = this.base + this.buffer.size() - this.head;
+                boolean started = false;
+                boolean hungry = false;
+                for (final Slot slot : this.slots) {
+                    slot.deliver(produced, finished);
+                    started = started || slot.subscriber != null;
+                    hungry = hungry || slot.hungry(produced);
+                }
+                final boolean active = this.trim(produced);
+                final boolean closed = this.closed();
+                if (!this.subscribed && this.upstream != null
+                    && (started || !active && closed)) {
+                    this.subscribed = true;
+                    this.upstream.subscribe(new Upstream());
+                } else if (this.subscription != null && !finished) {
+                    if (!active) {
+                        this.subscription.cancel();
+                    } else if (hungry && !this.pending && this.bytes < this.window) {
+                        this.pending = true;
+                        this.subscription.request(1);
+                    }
+                }
+                missed = this.wip.addAndGet(-missed);
+            }
+        }
+    }
+
+    /**
+     * Check if new slots can't be registered.
+     * @return True if closed
+     */
+    private synchronized boolean closed() {
+        return this.closed;
+    }
+
+    /**
+     * Drop buffers received by all slots.
+     * @param produced Number of received upstream buffers
+     * @return True if there are active slots
+     */
+    private synchronized boolean trim(final long produced) {
+        long min = produced;
+        boolean active = false;
+        for (final Slot slot : this.slots) {
+            if (!slot.terminated) {
+                active = true;
+                min = Math.min(min, slot.cursor);
+            }
+        }
+        while (this.base < min) {
+            this.bytes -= this.buffer.get(this.head).remaining();
+            this.buffer.set(this.head, null);
+            this.head += 1;
+            this.base += 1;
+            this.closed = true;
+        }
+        if (this.head > 0 && this.head * 2 >= this.buffer.size()) {
+            this.buffer.subList(0, this.head).clear();
+            this.head = 0;
+        }
+        if (!active && !this.slots.isEmpty()) {
+            this.closed = true;
+        }
+        return active;
+    }
+
+    /**
+     * Slot of the fan-out, it can be subscribed once.
+     * @since 1.2
+     */
+    final class Slot implements Publisher<ByteBuffer>, Subscription {
+
+        /**
+         * Subscribed flag.
+         */
+        private final AtomicBoolean once;
+
+        /**
+         * Requested items.
+         */
+        private final AtomicLong demand;
+
+        /**
+         * Subscriber.
+         */
+        private volatile Subscriber<? super ByteBuffer> subscriber;
+
+        /**
+         * Cancelled or released.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Invalid request error, delivered by drain loop.
+         */
+        private volatile Throwable invalid;
+
+        /**
+         * Sequence number of the next item, accessed by drain loop.
+         */
+        private long cursor;
+
+        /**
+         * Terminated, accessed by drain loop and trim.
+         */
+        private volatile boolean terminated;
+
+        /**
+         * Ctor.
+         */
+        Slot() {
+            this.once = new AtomicBoolean();
+            this.demand = new AtomicLong();
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+            if (this.once.compareAndSet(false, true)) {
+                this.subscriber = sub;
+                sub.onSubscribe(this);
+                FanOut.this.drain();
+            } else {
+                sub.onSubscribe(DummySubscription.VALUE);
+                sub.onError(new IllegalStateException("Slot can be subscribed only once"));
+            }
+        }
+
+        @Override
+        public void request(final long amount) {
+            if (amount <= 0) {
+                if (this.invalid == null) {
+                    this.invalid = new IllegalArgumentException(
+                        String.format("Requested %d items, it must be positive", amount)
+                    );
+                }
+                FanOut.this.drain();
+            } else {
+                this.demand.getAndAccumulate(
+                    amount, (cur, add) -> Math.max(cur + add, cur)
+                );
+                FanOut.this.drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            FanOut.this.drain();
+        }
+
+        /**
+         * Release the slot if it was not subscribed or cancel the subscription.
+         */
+        void release() {
+            this.cancel();
+        }
+
+        /**
+         * Deliver available buffers and terminal signal.
+         * @param produced Number of received upstream buffers
+         * @param finished Upstream is terminated
+         */
+        private void deliver(final long produced, final boolean finished) {
+            if (!this.terminated && this.invalid != null && !this.cancelled) {
+                this.terminated = true;
+                this.subscriber.onError(this.invalid);
+            } else if (!this.terminated && this.cancelled) {
+                this.terminated = true;
+            } else if (!this.terminated && this.subscriber != null) {
+                while (this.demand.get() > 0 && this.cursor < produced && !this.cancelled
+                    && this.invalid == null) {
+                    final int idx = FanOut.this.head + (int) (this.cursor - FanOut.this.base);
+                    this.cursor += 1;
+                    this.demand.decrementAndGet();
+                    this.subscriber.onNext(FanOut.this.buffer.get(idx).duplicate());
+                }
+                if (this.cursor == produced && finished && !this.cancelled) {
+                    this.terminated = true;
+                    if (FanOut.this.error == null) {
+                        this.subscriber.onComplete();
+                    } else {
+                        this.subscriber.onError(FanOut.this.error);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Check if slot waits for next upstream buffer.
+         * @param produced Number of received upstream buffers
+         * @return True if slot has demand and received all buffers
+         */
+        private boolean hungry(final long produced) {
+            return !this.terminated && this.subscriber != null
+                && this.demand.get() > 0 && this.cursor == produced;
+        }
+    }
+
+    /**
+     * Upstream subscriber.
+     * @since 1.2
+     */
+    private final class Upstream implements Subscriber<ByteBuffer> {
+
+        @Override
+        public void onSubscribe(final Subscription sub) {
+            FanOut.this.subscription = sub;
+            FanOut.this.drain();
+        }
+
+        @Override
+        public void onNext(final ByteBuffer item) {
+            FanOut.this.incoming.add(item);
+            FanOut.this.drain();
+        }
+
+        @Override
+        public void onError(final Throwable err) {
+            FanOut.this.error = err;
+            FanOut.this.done = true;
+            FanOut.this.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            FanOut.this.done = true;
+            FanOut.this.drain();
+        }
+    }
+}
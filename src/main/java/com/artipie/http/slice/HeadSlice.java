@@ -14,12 +14,12 @@ import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.headers.ContentFileName;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.rq.RequestLineFrom;
-import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -29,6 +29,14 @@ import org.reactivestreams.Publisher;
 
 /**
  * A {@link Slice} which only serves metadata on Binary files.
+ * <p>
+ * Conditional requests are answered with {@code 304 Not Modified} if response
+ * headers have {@code ETag} or {@code Last-Modified} validators which match
+ * request conditions. Default response headers are built in one storage call:
+ * they are read from storage metadata, missing key is detected by
+ * {@link com.artipie.asto.ValueNotFoundException} without existence check.
+ * Custom response headers function is called after existence check.
+ * </p>
  *
  * @since 0.26.2
  * @todo #397:30min Use this class in artipie/files-adapter.
@@ -54,6 +62,11 @@ public final class HeadSlice implements Slice {
      */
     private final BiFunction<String, Headers, CompletionStage<Headers>> resheaders;
 
+    /**
+     * Check key existence before response headers function call.
+     */
+    private final boolean check;
+
     /**
      * Ctor.
      *
@@ -68,6 +81,10 @@ public final class HeadSlice implements Slice {
 
     /**
      * Ctor.
+     * <p>
+     * Response headers are read from storage metadata in one storage call,
+     * missing key is detected by metadata call failure.
+     * </p>
      *
      * @param storage Storage
      * @param transform Transformation
@@ -81,20 +98,28 @@ public final class HeadSlice implements Slice {
                 final Key key = transform.apply(uri.getPath());
                 return storage.metadata(key)
                     .thenApply(
-                        meta -> meta.read(Meta.OP_SIZE)
-                            .orElseThrow(() -> new IllegalStateException())
-                    ).thenApply(
-                        size -> new Headers.From(
-                            new ContentFileName(uri),
-                            new ContentLength(size)
+                        meta -> new Headers.From(
+                            new Headers.From(
+                                new ContentFileName(uri),
+                                new ContentLength(
+                                    meta.read(Meta.OP_SIZE)
+                                        .orElseThrow(() -> new IllegalStateException())
+                                )
+                            ),
+                            new Validators(meta).headers()
                         )
                     );
-            }
+            },
+            false
         );
     }
 
     /**
      * Ctor.
+     * <p>
+     * Key existence is checked before response headers function call, since
+     * the function may not access the storage.
+     * </p>
      *
      * @param storage Storage
      * @param transform Transformation
@@ -104,10 +129,29 @@ public final class HeadSlice implements Slice {
         final Storage storage,
         final Function<String, Key> transform,
         final BiFunction<String, Headers, CompletionStage<Headers>> resheaders
+    ) {
+        this(storage, transform, resheaders, true);
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param storage Storage
+     * @param transform Transformation
+     * @param resheaders Function to get response headers
+     * @param check Check key existence before response headers function call
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private HeadSlice(
+        final Storage storage,
+        final Function<String, Key> transform,
+        final BiFunction<String, Headers, CompletionStage<Headers>> resheaders,
+        final boolean check
     ) {
         this.storage = storage;
         this.transform = transform;
         this.resheaders = resheaders;
+        this.check = check;
     }
 
     @Override
@@ -117,36 +161,72 @@ public final class HeadSlice implements Slice {
         final Publisher<ByteBuffer> body
     ) {
         return new AsyncResponse(
-            CompletableFuture
-                .supplyAsync(new RequestLineFrom(line)::uri)
-                .thenCompose(
-                    uri -> {
-                        final Key key = this.transform.apply(uri.getPath());
-                        return this.storage.exists(key)
-                            .thenCompose(
-                                exist -> {
-                                    final CompletionStage<Response> result;
-                                    if (exist) {
-                                        result = this.resheaders
-                                            .apply(line, new Headers.From(headers))
-                                                .thenApply(
-                                                    hdrs -> new RsWithHeaders(StandardRs.OK, hdrs)
-                                                );
-                                    } else {
-                                        result = CompletableFuture.completedFuture(
-                                            new RsWithBody(
-                                                StandardRs.NOT_FOUND,
-                                                String.format("Key %s not found", key.string()),
-                                                StandardCharsets.UTF_8
-                                            )
-                                        );
-                                    }
-                                    return result;
-                                }
-                            );
-                    }
+            CompletableFuture.completedFuture(line)
+                .thenApply(
+                    rqline -> this.transform.apply(new RequestLineFrom(rqline).uri().getPath())
+                ).thenCompose(
+                    key -> new KeyNotFound(key).recover(this.checked(key, line, headers))
                 )
         );
     }
 
+    /**
+     * Response with headers, key existence is checked first if required.
+     * @param key Storage key
+     * @param line Request line
+     * @param headers Request headers
+     * @return Response future
+     */
+    private CompletionStage<Response> checked(final Key key, final String line,
+        final Iterable<Map.Entry<String, String>> headers) {
+        final CompletionStage<Response> res;
+        if (this.check) {
+            res = this.storage.exists(key).thenCompose(
+                exists -> {
+                    final CompletionStage<Response> rsp;
+                    if (exists) {
+                        rsp = this.head(line, headers);
+                    } else {
+                        rsp = CompletableFuture.completedFuture(new KeyNotFound(key).response());
+                    }
+                    return rsp;
+                }
+            );
+        } else {
+            res = this.head(line, headers);
+        }
+        return res;
+    }
+
+    /**
+     * Response with headers from response headers function.
+     * @param line Request line
+     * @param headers Request headers
+     * @return Response future
+     */
+    private CompletionStage<Response> head(final String line,
+        final Iterable<Map.Entry<String, String>> headers) {
+        return this.resheaders.apply(line, new Headers.From(headers))
+            .thenApply(hdrs -> HeadSlice.head(headers, hdrs));
+    }
+
+    /**
+     * Response to HEAD request.
+     * @param rqheaders Request headers
+     * @param headers Response headers
+     * @return Response with headers or {@code 304 Not Modified} response
+     */
+    private static Response head(final Iterable<Map.Entry<String, String>> rqheaders,
+        final Headers headers) {
+        final Validators validators = new Validators(headers);
+        final Response res;
+        if (validators.notModified(rqheaders)) {
+            res = new RsWithHeaders(
+                new RsWithStatus(RsStatus.NOT_MODIFIED), validators.headers()
+            );
+        } else {
+            res = new RsWithHeaders(StandardRs.OK, headers);
+        }
+        return res;
+    }
 }
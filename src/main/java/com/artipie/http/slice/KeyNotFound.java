@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.ValueNotFoundException;
+import com.artipie.http.Response;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.StandardRs;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Not found response for storage key.
+ * <p>
+ * It's used to answer with {@code 404} when storage operation fails with
+ * {@link ValueNotFoundException}, so slices don't need separate
+ * {@link com.artipie.asto.Storage#exists(Key)} round trip.
+ * </p>
+ * @since 1.2
+ */
+final class KeyNotFound {
+
+    /**
+     * Storage key.
+     */
+    private final Key key;
+
+    /**
+     * Ctor.
+     * @param key Storage key
+     */
+    KeyNotFound(final Key key) {
+        this.key = key;
+    }
+
+    /**
+     * Not found response.
+     * @return Response
+     */
+    Response response() {
+        return new RsWithBody(
+            StandardRs.NOT_FOUND,
+            String.format("Key %s not found", this.key.string()),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Recover response stage failed with {@link ValueNotFoundException}.
+     * @param stage Response stage
+     * @return Response stage with not found response on value not found error,
+     *  its cancellation is propagated to the origin stage
+     */
+    CompletionStage<Response> recover(final CompletionStage<Response> stage) {
+        final CompletableFuture<Response> res = stage.handle(
+            (rsp, err) -> {
+                final CompletableFuture<Response> out = new CompletableFuture<>();
+                if (err == null) {
+                    out.complete(rsp);
+                } else if (KeyNotFound.notFound(err)) {
+                    out.complete(this.response());
+                } else {
+                    out.completeExceptionally(err);
+                }
+                return out;
+            }
+        ).thenCompose(Function.identity()).toCompletableFuture();
+        res.whenComplete(
+            (rsp, err) -> {
+                if (res.isCancelled()) {
+                    stage.toCompletableFuture().cancel(true);
+                }
+            }
+        );
+        return res;
+    }
+
+    /**
+     * Check if error is caused by {@link ValueNotFoundException}.
+     * @param err Error
+     * @return True if value was not found
+     */
+    private static boolean notFound(final Throwable err) {
+        boolean res = false;
+        Throwable cause = err;
+        while (cause != null && !res) {
+            res = cause instanceof ValueNotFoundException;
+            if (cause.getCause() == cause) {
+                break;
+            }
+            cause = cause.getCause();
+        }
+        return res;
+    }
+}
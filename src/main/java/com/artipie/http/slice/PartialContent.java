@@ -0,0 +1,358 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.ContentRange;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rs.FileRegion;
+import com.artipie.http.rs.RsFull;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.reactivestreams.Publisher;
+
+/**
+ * Response with full or partial content according to {@code Range} request header, see
+ * <a href="https://www.rfc-editor.org/rfc/rfc7233">RFC 7233</a>.
+ * <p>
+ * Single range is sent as {@code 206} response with {@code Content-Range} header,
+ * multiple ranges are sent as {@code multipart/byteranges} body, unsatisfiable ranges
+ * are answered with {@code 416}. Ranges of {@link FileRegion} content are read directly
+ * from the requested file positions, other content is read once and sliced without
+ * copying, reading stops after the last range.
+ * </p>
+ * @since 1.2
+ */
+final class PartialContent {
+
+    /**
+     * Range header name.
+     */
+    private static final String RANGE = "Range";
+
+    /**
+     * If-Range header name.
+     */
+    private static final String IF_RANGE = "If-Range";
+
+    /**
+     * Request headers.
+     */
+    private final Iterable<Map.Entry<String, String>> rqheaders;
+
+    /**
+     * Content validators.
+     */
+    private final Validators validators;
+
+    /**
+     * Ctor.
+     * @param rqheaders Request headers
+     * @param validators Content validators to check {@code If-Range} condition
+     */
+    PartialContent(final Iterable<Map.Entry<String, String>> rqheaders,
+        final Validators validators) {
+        this.rqheaders = rqheaders;
+        this.validators = validators;
+    }
+
+    /**
+     * Response for the content.
+     * @param headers Response headers
+     * @param content Content
+     * @return Full content response or partial content response
+     */
+    Response response(final Headers headers, final Content content) {
+        final Optional<Long> size = content.size();
+        final Response res;
+        if (size.isPresent()) {
+            final Headers accept = new Headers.From(headers, new Header("Accept-Ranges", "bytes"));
+            final Optional<List<ByteRange>> ranges = this.ranges(size.get());
+            if (!ranges.isPresent()) {
+                res = new RsFull(RsStatus.OK, accept, content);
+            } else if (ranges.get().isEmpty()) {
+                res = new RsFull(
+                    RsStatus.BAD_RANGE,
+                    new Headers.From(accept, new ContentRange(size.get())),
+                    Content.EMPTY
+                );
+            } else if (ranges.get().size() == 1) {
+                final ByteRange range = ranges.get().get(0);
+                res = new RsFull(
+                    RsStatus.PARTIAL_CONTENT,
+                    new Headers.From(
+                        accept, new ContentRange(range.start(), range.end(), size.get())
+                    ),
+                    PartialContent.slice(content, range)
+                );
+            } else {
+                res = PartialContent.multipart(accept, content, ranges.get(), size.get());
+            }
+        } else {
+            res = new RsFull(RsStatus.OK, headers, content);
+        }
+        return res;
+    }
+
+    /**
+     * Requested ranges.
+     * <p>
+     * Requests with {@code If-Range} header which doesn't match content validators
+     * are served with full content.
+     * </p>
+     * @param size Content size
+     * @return Ranges if request has applicable Range header
+     */
+    private Optional<List<ByteRange>> ranges(final long size) {
+        final List<String> values = new RqHeaders(this.rqheaders, PartialContent.RANGE);
+        final List<String> ifrange = new RqHeaders(this.rqheaders, PartialContent.IF_RANGE);
+        final Optional<List<ByteRange>> res;
+        if (values.size() == 1 && (ifrange.isEmpty()
+            || ifrange.size() == 1 && this.validators.ifRange(ifrange.get(0)))) {
+            res = ByteRange.parse(values.get(0), size);
+        } else {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * Multipart byte ranges response.
+     * @param headers Response headers
+     * @param content Content
+     * @param ranges Sorted disjoint ranges
+     * @param size Content size
+     * @return Response
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static Response multipart(final Headers headers, final Content content,
+        final List<ByteRange> ranges, final long size) {
+        final String boundary = UUID.randomUUID().toString().replace("-", "");
+        final List<ByteBuffer> heads = new ArrayList<>(ranges.size());
+        long length = 0;
+        for (final ByteRange range : ranges) {
+            final String prefix;
+            if (heads.isEmpty()) {
+                prefix = "";
+            } else {
+                prefix = "\r\n";
+            }
+            final ByteBuffer head = PartialContent.ascii(
+                String.format(
+                    "%s--%s\r\n%s: %s\r\n\r\n",
+                    prefix, boundary, ContentRange.NAME,
+                    new ContentRange(range.start(), range.end(), size).getValue()
+                )
+            );
+            heads.add(head);
+            length += head.remaining() + range.length();
+        }
+        final ByteBuffer tail = PartialContent.ascii(String.format("\r\n--%s--\r\n", boundary));
+        length += tail.remaining();
+        final Publisher<ByteBuffer> body;
+        if (content instanceof FileRegion) {
+            final List<Publisher<ByteBuffer>> parts = new ArrayList<>(ranges.size() * 2 + 1);
+            for (int idx = 0; idx < ranges.size(); ++idx) {
+                parts.add(Flowable.just(heads.get(idx)));
+                parts.add(PartialContent.slice(content, ranges.get(idx)));
+            }
+            parts.add(Flowable.just(tail));
+            body = Flowable.concat(parts);
+        } else {
+            body = Flowable.concat(
+                new Ranges(content, ranges, heads).publisher(), Flowable.just(tail)
+            );
+        }
+        return new RsFull(
+            RsStatus.PARTIAL_CONTENT,
+            new Headers.From(
+                headers,
+                new ContentType(String.format("multipart/byteranges; boundary=%s", boundary))
+            ),
+            new Content.From(Optional.of(length), body)
+        );
+    }
+
+    /**
+     * Content of single range.
+     * @param content Content
+     * @param range Range
+     * @return Range content
+     */
+    private static Content slice(final Content content, final ByteRange range) {
+        final Content res;
+        if (content instanceof FileRegion) {
+            res = ((FileRegion) content).region(range.start(), range.length());
+        } else {
+            res = new Content.From(
+                Optional.of(range.length()),
+                new Ranges(
+                    content, Collections.singletonList(range), Collections.emptyList()
+                ).publisher()
+            );
+        }
+        return res;
+    }
+
+    /**
+     * ASCII string buffer.
+     * @param str String
+     * @return Byte buffer
+     */
+    private static ByteBuffer ascii(final String str) {
+        return ByteBuffer.wrap(str.getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Ranges of content read in one pass.
+     * @since 1.2
+     */
+    private static final class Ranges {
+
+        /**
+         * Content.
+         */
+        private final Publisher<ByteBuffer> content;
+
+        /**
+         * Sorted disjoint ranges.
+         */
+        private final List<ByteRange> ranges;
+
+        /**
+         * Part heads to send before each range, may be empty.
+         */
+        private final List<ByteBuffer> heads;
+
+        /**
+         * Ctor.
+         * @param content Content
+         * @param ranges Sorted disjoint ranges
+         * @param heads Part heads
+         */
+        Ranges(final Publisher<ByteBuffer> content, final List<ByteRange> ranges,
+            final List<ByteBuffer> heads) {
+            this.content = content;
+            this.ranges = ranges;
+            this.heads = heads;
+        }
+
+        /**
+         * Publisher of ranges bytes.
+         * @return Publisher
+         */
+        Flowable<ByteBuffer> publisher() {
+            return Flowable.defer(
+                () -> {
+                    final Cursor cursor = new Cursor(this.ranges, this.heads);
+                    return Flowable.fromPublisher(this.content)
+                        .map(cursor::slices)
+                        .takeUntil((List<ByteBuffer> slices) -> cursor.done())
+                        .concatMapIterable(slices -> slices);
+                }
+            );
+        }
+    }
+
+    /**
+     * Position of content reading.
+     * @since 1.2
+     */
+    private static final class Cursor {
+
+        /**
+         * Sorted disjoint ranges.
+         */
+        private final List<ByteRange> ranges;
+
+        /**
+         * Part heads.
+         */
+        private final List<ByteBuffer> heads;
+
+        /**
+         * Current range index.
+         */
+        private int idx;
+
+        /**
+         * Current range was started.
+         */
+        private boolean started;
+
+        /**
+         * Content position.
+         */
+        private long pos;
+
+        /**
+         * Ctor.
+         * @param ranges Sorted disjoint ranges
+         * @param heads Part heads
+         */
+        Cursor(final List<ByteRange> ranges, final List<ByteBuffer> heads) {
+            this.ranges = ranges;
+            this.heads = heads;
+        }
+
+        /**
+         * Slices of the content buffer which belong to ranges.
+         * @param buf Content buffer
+         * @return Slices with part heads, may be empty
+         */
+        List<ByteBuffer> slices(final ByteBuffer buf) {
+            final List<ByteBuffer> res = new ArrayList<>(2);
+            final long from = this.pos;
+            final long till = from + buf.remaining();
+            this.pos = till;
+            while (this.idx < this.ranges.size()) {
+                final ByteRange range = this.ranges.get(this.idx);
+                if (range.start() >= till) {
+                    break;
+                }
+                if (!this.started) {
+                    if (!this.heads.isEmpty()) {
+                        res.add(this.heads.get(this.idx).duplicate());
+                    }
+                    this.started = true;
+                }
+                final long low = Math.max(range.start(), from);
+                final long high = Math.min(range.end() + 1, till);
+                if (high > low) {
+                    final ByteBuffer slice = buf.duplicate();
+                    slice.limit(buf.position() + (int) (high - from));
+                    slice.position(buf.position() + (int) (low - from));
+                    res.add(slice);
+                }
+                if (range.end() >= till) {
+                    break;
+                }
+                this.idx += 1;
+                this.started = false;
+            }
+            return res;
+        }
+
+        /**
+         * Check if all ranges were read.
+         * @return True if done
+         */
+        boolean done() {
+            return this.idx >= this.ranges.size();
+        }
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.headers.ContentFileName;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsFull;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice which serves storage values with precompressed gzip sidecars.
+ * <p>
+ * If client accepts gzip coding, {@code GET} requests are answered with precompressed
+ * sidecar of the value with {@code Content-Encoding: gzip} header, so hot files are not
+ * compressed on every request. Sidecars are kept under dedicated prefix
+ * ({@code .precompressed} by default), so they never replace repository values and
+ * don't appear in repository listings. Sidecar key is derived from origin entity tag:
+ * {@code <prefix>/<key>/<tag>.gz}, so sidecar is always read consistently with the
+ * validator it was written for. Missing sidecar is written lazily on the first request:
+ * it's saved to temporary key and moved to sidecar key only if origin entity tag didn't
+ * change while compressing, then sidecars of previous origin versions are removed.
+ * Content without entity tag or with sidecar write failure is compressed on the fly.
+ * Requests with {@code Range} header, requests which don't accept gzip, values smaller
+ * than 1 KB and values of already compressed formats (archives, packages, images) are
+ * served by {@link SliceDownload}.
+ * </p>
+ * @since 1.2
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class PrecompressedSlice implements Slice {
+
+    /**
+     * Default sidecars prefix.
+     */
+    private static final Key PREFIX = new Key.From(".precompressed");
+
+    /**
+     * Sidecar key suffix.
+     */
+    private static final String SUFFIX = ".gz";
+
+    /**
+     * Min size of value to compress, smaller values don't benefit from compression.
+     */
+    private static final long MIN_SIZE = 1024;
+
+    /**
+     * Extensions of already compressed formats.
+     */
+    private static final Set<String> COMPRESSED = new HashSet<>(
+        Arrays.asList(
+            "gz", "tgz", "zip", "jar", "war", "ear", "aar", "apk", "whl", "egg", "nupkg",
+            "bz2", "xz", "zst", "7z", "rar", "rpm", "deb", "gem", "crate",
+            "png", "jpg", "jpeg", "gif", "webp", "mp3", "mp4", "woff", "woff2"
+        )
+    );
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Path to key transformation.
+     */
+    private final Function<String, Key> transform;
+
+    /**
+     * Write missing sidecars.
+     */
+    private final boolean write;
+
+    /**
+     * Sidecars prefix.
+     */
+    private final Key prefix;
+
+    /**
+     * Slice which serves and lazily writes sidecars.
+     * @param storage Storage
+     */
+    public PrecompressedSlice(final Storage storage) {
+        this(storage, KeyFromPath::new, true);
+    }
+
+    /**
+     * Slice with sidecars under default prefix.
+     * @param storage Storage
+     * @param transform Path to key transformation
+     * @param write Write missing or stale sidecars if true, compress on the fly otherwise
+     */
+    public PrecompressedSlice(final Storage storage, final Function<String, Key> transform,
+        final boolean write) {
+        this(storage, transform, write, PrecompressedSlice.PREFIX);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param transform Path to key transformation
+     * @param write Write missing or stale sidecars if true, compress on the fly otherwise
+     * @param prefix Sidecars prefix, it must not be used for other values
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public PrecompressedSlice(final Storage storage, final Function<String, Key> transform,
+        final boolean write, final Key prefix) {
+        this.storage = storage;
+        this.transform = transform;
+        this.write = write;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Response response(final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final RequestLineFrom rqline = new RequestLineFrom(line);
+        final Response res;
+        if (rqline.method() == RqMethod.GET
+            && new RqHeaders(headers, "Range").isEmpty()
+            && !PrecompressedSlice.COMPRESSED.contains(
+                PrecompressedSlice.extension(rqline.uri().getPath())
+            )
+            && new AcceptEncoding(headers)
+                .select(Collections.singletonList(new ContentCoding.Gzip())).isPresent()) {
+            final URI uri = rqline.uri();
+            final Key key = this.transform.apply(uri.getPath());
+            res = new AsyncResponse(
+                new KeyNotFound(key).recover(
+                    this.storage.metadata(key).thenCompose(
+                        meta -> {
+                            final CompletionStage<Response> rsp;
+                            if (meta.read(Meta.OP_SIZE).map(Long::longValue)
+                                .orElse(Long.MAX_VALUE) < PrecompressedSlice.MIN_SIZE) {
+                                rsp = new SliceDownload(this.storage, this.transform)
+                                    .conditional(key, uri, headers, new Validators(meta));
+                            } else {
+                                rsp = this.encoded(key, uri, headers, new Validators(meta));
+                            }
+                            return rsp;
+                        }
+                    )
+                )
+            );
+        } else {
+            res = new SliceDownload(this.storage, this.transform).response(line, headers, body);
+        }
+        return res;
+    }
+
+    /**
+     * Gzip encoded response.
+     * @param key Storage key
+     * @param uri Request URI
+     * @param headers Request headers
+     * @param validators Origin content validators
+     * @return Response future
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private CompletionStage<Response> encoded(final Key key, final URI uri,
+        final Iterable<Map.Entry<String, String>> headers, final Validators validators) {
+        final Validators weak = validators.weak();
+        final Headers rsheaders = PrecompressedSlice.headers(uri, weak);
+        final Optional<String> tag = validators.tag();
+        final CompletionStage<Response> res;
+        if (weak.notModified(headers)) {
+            res = CompletableFuture.completedFuture(
+                new RsWithHeaders(
+                    new RsWithStatus(RsStatus.NOT_MODIFIED), PrecompressedSlice.vary(weak)
+                )
+            );
+        } else if (tag.isPresent()) {
+            final Key sidecar = this.sidecar(key, tag.get());
+            res = this.storage.value(sidecar).handle(
+                (content, err) -> {
+                    final CompletionStage<Response> rsp;
+                    if (err == null) {
+                        rsp = CompletableFuture.completedFuture(
+                            new RsFull(RsStatus.OK, rsheaders, content)
+                        );
+                    } else if (this.write) {
+                        rsp = this.written(key, uri, sidecar, tag.get()).handle(
+                            (written, failure) -> {
+                                final CompletionStage<Response> out;
+                                if (failure == null) {
+                                    out = CompletableFuture.completedFuture(written);
+                                } else {
+                                    out = this.compressed(key, rsheaders);
+                                }
+                                return out;
+                            }
+                        ).thenCompose(Function.identity());
+                    } else {
+                        rsp = this.compressed(key, rsheaders);
+                    }
+                    return rsp;
+                }
+            ).thenCompose(Function.identity());
+        } else {
+            res = this.compressed(key, rsheaders);
+        }
+        return res;
+    }
+
+    /**
+     * Write sidecar and respond with it.
+     * <p>
+     * Sidecar is compressed to temporary key and moved to sidecar key only if
+     * origin entity tag is the same after compression, otherwise origin is compressed
+     * on the fly with current validators. Temporary key is removed if writing fails.
+     * </p>
+     * @param key Storage key
+     * @param uri Request URI
+     * @param sidecar Sidecar key
+     * @param tag Origin entity tag
+     * @return Response future
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private CompletionStage<Response> written(final Key key, final URI uri, final Key sidecar,
+        final String tag) {
+        final Key tmp = new Key.From(
+            String.format("%s.%s.part", sidecar.string(), UUID.randomUUID())
+        );
+        final CompletionStage<Response> res = this.storage.value(key)
+            .thenCompose(
+                content -> this.storage.save(tmp, new Content.From(new Deflated(content, true)))
+            )
+            .thenCompose(nothing -> this.storage.metadata(key))
+            .thenCompose(
+                meta -> {
+                    final Validators current = new Validators(meta);
+                    final CompletionStage<Response> rsp;
+                    if (current.tag().equals(Optional.of(tag))) {
+                        rsp = this.storage.move(tmp, sidecar)
+                            .thenCompose(nothing -> this.cleanup(key, sidecar))
+                            .thenCompose(nothing -> this.storage.value(sidecar))
+                            .thenApply(
+                                content -> new RsFull(
+                                    RsStatus.OK,
+                                    PrecompressedSlice.headers(uri, current.weak()),
+                                    content
+                                )
+                            );
+                    } else {
+                        rsp = this.storage.delete(tmp).thenCompose(
+                            nothing -> this.compressed(
+                                key, PrecompressedSlice.headers(uri, current.weak())
+                            )
+                        );
+                    }
+                    return rsp;
+                }
+            );
+        res.whenComplete(
+            (rsp, err) -> {
+                if (err != null) {
+                    this.storage.delete(tmp).handle((nothing, ignored) -> null);
+                }
+            }
+        );
+        return res;
+    }
+
+    /**
+     * Remove sidecars of previous origin versions.
+     * <p>
+     * Storage listing is prefix based, so only keys directly under the sidecars
+     * directory of the key are removed, sidecars of other keys with the same prefix
+     * are kept.
+     * </p>
+     * @param key Storage key
+     * @param sidecar Current sidecar key
+     * @return Completion stage, cleanup errors are ignored
+     */
+    private CompletionStage<Void> cleanup(final Key key, final Key sidecar) {
+        final Key dir = new Key.From(this.prefix, key);
+        return this.storage.list(dir).thenCompose(
+            keys -> CompletableFuture.allOf(
+                keys.stream()
+                    .filter(
+                        item -> item.string().endsWith(PrecompressedSlice.SUFFIX)
+                            && !item.string().equals(sidecar.string())
+                            && item.parent().map(Key::string)
+                                .equals(Optional.of(dir.string()))
+                    )
+                    .map(this.storage::delete)
+                    .toArray(CompletableFuture[]::new)
+            )
+        ).handle((nothing, err) -> null);
+    }
+
+    /**
+     * Response with origin content compressed on the fly.
+     * @param key Storage key
+     * @param rsheaders Response headers
+     * @return Response future
+     */
+    private CompletionStage<Response> compressed(final Key key, final Headers rsheaders) {
+        return this.storage.value(key).thenApply(
+            content -> new RsFull(
+                RsStatus.OK, rsheaders, new Content.From(new Deflated(content, true))
+            )
+        );
+    }
+
+    /**
+     * Key of the sidecar for origin entity tag.
+     * @param key Storage key
+     * @param tag Origin entity tag
+     * @return Sidecar key
+     */
+    private Key sidecar(final Key key, final String tag) {
+        return new Key.From(
+            new Key.From(this.prefix, key),
+            Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(tag.getBytes(StandardCharsets.US_ASCII))
+                .concat(PrecompressedSlice.SUFFIX)
+        );
+    }
+
+    /**
+     * Lower case extension of the path.
+     * @param path Request path
+     * @return Extension or empty string
+     */
+    private static String extension(final String path) {
+        final int slash = path.lastIndexOf('/');
+        final int dot = path.lastIndexOf('.');
+        final String res;
+        if (dot > slash) {
+            res = path.substring(dot + 1).toLowerCase(Locale.US);
+        } else {
+            res = "";
+        }
+        return res;
+    }
+
+    /**
+     * Headers of gzip encoded response.
+     * @param uri Request URI
+     * @param weak Weak validators of encoded representation
+     * @return Response headers
+     */
+    private static Headers headers(final URI uri, final Validators weak) {
+        return new Headers.From(
+            new Headers.From(new ContentFileName(uri)),
+            new Headers.From(
+                PrecompressedSlice.vary(weak), new Header("Content-Encoding", "gzip")
+            )
+        );
+    }
+
+    /**
+     * Validator headers with {@code Vary} header.
+     * @param weak Weak validators of encoded representation
+     * @return Headers
+     */
+    private static Headers vary(final Validators weak) {
+        return new Headers.From(weak.headers(), new Header("Vary", AcceptEncoding.NAME));
+    }
+}
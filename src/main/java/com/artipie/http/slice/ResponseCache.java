@@ -0,0 +1,405 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.misc.ByteBufferPool;
+import com.artipie.http.misc.SizeClassPool;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bounded in-memory cache of responses which can be shared by {@link CachedSlice} instances.
+ * <p>
+ * Cache is limited by total weight of cached entries in bytes: body size plus headers
+ * length. Least recently used entries are evicted when the budget is exceeded, entries
+ * expire after time to live. Bodies are kept in heap buffer chunks taken from the pool
+ * and are replayed as read-only duplicates, so cached bytes are never copied on hit.
+ * Replayed buffers are owned by downstream and may be held after the entry is evicted,
+ * so chunks of cached entries are not released to the pool: they are reclaimed by GC,
+ * and only chunks of discarded recordings are reused. Heap chunks are used by default,
+ * since direct memory of evicted entries would be reclaimed only by GC too.
+ * </p>
+ * <p>
+ * Keys and paths are not scoped by the cache, slices sharing the cache should
+ * prefix them with a namespace, see {@link CachedSlice}.
+ * </p>
+ * <p>
+ * Entries are indexed by request path without query, so path invalidation removes only
+ * entries of the path. Each invalidation gets next generation number: response recorded
+ * by a miss which started before invalidation of its path is not cached. Generations
+ * of recently invalidated paths are kept in bounded map, generation of the evicted path
+ * is kept as the floor for all paths, so such puts are skipped conservatively.
+ * </p>
+ * @since 1.2
+ */
+public final class ResponseCache {
+
+    /**
+     * Max number of tracked path invalidations.
+     */
+    private static final int TRACKED = 4096;
+
+    /**
+     * Shared pool of heap chunks.
+     */
+    private static final ByteBufferPool CHUNKS = new SizeClassPool(false);
+
+    /**
+     * Max weight of cached entries in bytes.
+     */
+    private final long budget;
+
+    /**
+     * Max weight of one entry in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Time to live in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Body chunks pool.
+     */
+    private final ByteBufferPool pool;
+
+    /**
+     * Entries by key in access order.
+     */
+    private final Map<String, Entry> entries;
+
+    /**
+     * Keys of entries by request path.
+     */
+    private final Map<String, Set<String>> paths;
+
+    /**
+     * Generations of recently invalidated paths in invalidation order.
+     */
+    private final Map<String, Long> invalidated;
+
+    /**
+     * Total weight of cached entries.
+     */
+    private long weight;
+
+    /**
+     * Last invalidation generation.
+     */
+    private long generation;
+
+    /**
+     * Generation of the latest invalidation which is not tracked anymore.
+     */
+    private long floor;
+
+    /**
+     * Cache with entry size limited by 1/8 of the budget.
+     * @param budget Max weight of cached entries in bytes
+     * @param ttl Time to live of entries
+     */
+    public ResponseCache(final long budget, final Duration ttl) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(budget, budget / 8, ttl);
+    }
+
+    /**
+     * Cache with shared pool of heap chunks.
+     * @param budget Max weight of cached entries in bytes
+     * @param limit Max weight of one entry in bytes, larger responses are not cached
+     * @param ttl Time to live of entries
+     */
+    public ResponseCache(final long budget, final long limit, final Duration ttl) {
+        this(budget, limit, ttl, ResponseCache.CHUNKS);
+    }
+
+    /**
+     * Ctor.
+     * @param budget Max weight of cached entries in bytes
+     * @param limit Max weight of one entry in bytes, larger responses are not cached
+     * @param ttl Time to live of entries
+     * @param pool Body chunks pool, chunks of cached entries are not released to it
+     */
+    public ResponseCache(final long budget, final long limit, final Duration ttl,
+        final ByteBufferPool pool) {
+        this.budget = budget;
+        this.limit = Math.min(limit, budget);
+        this.ttl = ttl.toNanos();
+        this.pool = pool;
+        // @checkstyle MagicNumberCheck (1 line)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.paths = new HashMap<>();
+        this.invalidated = new LinkedHashMap<>();
+    }
+
+    /**
+     * Total weight of cached entries.
+     * @return Weight in bytes
+     */
+    public synchronized long weight() {
+        return this.weight;
+    }
+
+    /**
+     * Max body size of cached response.
+     * @return Size in bytes
+     */
+    long limit() {
+        return this.limit;
+    }
+
+    /**
+     * Body chunks pool.
+     * @return Pool
+     */
+    ByteBufferPool pool() {
+        return this.pool;
+    }
+
+    /**
+     * Current invalidation generation, it should be taken before origin request of a miss.
+     * @return Generation
+     */
+    synchronized long generation() {
+        return this.generation;
+    }
+
+    /**
+     * Find live entry.
+     * @param key Cache key
+     * @return Entry if cached and not expired
+     */
+    synchronized Optional<Entry> get(final String key) {
+        final Entry entry = this.entries.get(key);
+        final Optional<Entry> res;
+        if (entry == null) {
+            res = Optional.empty();
+        } else if (entry.expired(System.nanoTime())) {
+            this.remove(key);
+            res = Optional.empty();
+        } else {
+            res = Optional.of(entry);
+        }
+        return res;
+    }
+
+    /**
+     * Put entry evicting least recently used entries if budget is exceeded.
+     * <p>
+     * Entry is not cached if its path was invalidated after the generation.
+     * </p>
+     * @param key Cache key
+     * @param path Request path without query
+     * @param generation Invalidation generation taken before origin request
+     * @param status Response status
+     * @param headers Response headers
+     * @param body Body chunks, flipped
+     * @return True if cached
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
+    synchronized boolean put(final String key, final String path, final long generation,
+        final RsStatus status, final Headers headers, final List<ByteBuffer> body) {
+        final List<Map.Entry<String, String>> copy = new ArrayList<>(10);
+        headers.forEach(copy::add);
+        final Entry entry = new Entry(
+            path, status, new Headers.From(Collections.unmodifiableList(copy)), body,
+            System.nanoTime() + this.ttl
+        );
+        final boolean res = entry.weight() <= this.limit
+            && Math.max(this.floor, this.invalidated.getOrDefault(path, 0L)) <= generation;
+        if (res) {
+            this.remove(key);
+            this.entries.put(key, entry);
+            this.paths.computeIfAbsent(path, any -> new HashSet<>(2)).add(key);
+            this.weight += entry.weight();
+            final Iterator<Map.Entry<String, Entry>> iter = this.entries.entrySet().iterator();
+            while (this.weight > this.budget && iter.hasNext()) {
+                final Map.Entry<String, Entry> eldest = iter.next();
+                iter.remove();
+                this.unindex(eldest.getKey(), eldest.getValue());
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Remove all entries of the path and start new generation of the path.
+     * @param path Request path without query
+     */
+    synchronized void invalidate(final String path) {
+        this.generation += 1;
+        this.invalidated.remove(path);
+        this.invalidated.put(path, this.generation);
+        if (this.invalidated.size() > ResponseCache.TRACKED) {
+            final Iterator<Long> iter = this.invalidated.values().iterator();
+            this.floor = Math.max(this.floor, iter.next());
+            iter.remove();
+        }
+        final Set<String> keys = this.paths.remove(path);
+        if (keys != null) {
+            for (final String key : keys) {
+                this.weight -= this.entries.remove(key).weight();
+            }
+        }
+    }
+
+    /**
+     * Cache key of the request.
+     * @param method Request method
+     * @param path Request path with query
+     * @param vary Values of request headers response varies by
+     * @return Cache key
+     */
+    static String key(final RqMethod method, final String path, final String vary) {
+        return String.format("%s %s\n%s", method.value(), path, vary);
+    }
+
+    /**
+     * Remove entry.
+     * @param key Cache key
+     */
+    private void remove(final String key) {
+        final Entry old = this.entries.remove(key);
+        if (old != null) {
+            this.unindex(key, old);
+        }
+    }
+
+    /**
+     * Remove removed entry from path index and total weight.
+     * @param key Cache key
+     * @param entry Removed entry
+     */
+    private void unindex(final String key, final Entry entry) {
+        this.weight -= entry.weight();
+        final Set<String> keys = this.paths.get(entry.path);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                this.paths.remove(entry.path);
+            }
+        }
+    }
+
+    /**
+     * Cached response.
+     * @since 1.2
+     */
+    static final class Entry {
+
+        /**
+         * Request path without query.
+         */
+        private final String path;
+
+        /**
+         * Response status.
+         */
+        private final RsStatus status;
+
+        /**
+         * Response headers.
+         */
+        private final Headers headers;
+
+        /**
+         * Read-only body chunks.
+         */
+        private final List<ByteBuffer> body;
+
+        /**
+         * Body size.
+         */
+        private final long size;
+
+        /**
+         * Expiration time by {@link System#nanoTime()}.
+         */
+        private final long expires;
+
+        /**
+         * Entry weight.
+         */
+        private final long weight;
+
+        /**
+         * Ctor.
+         * @param path Request path without query
+         * @param status Response status
+         * @param headers Response headers
+         * @param body Body chunks, flipped
+         * @param expires Expiration time
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Entry(final String path, final RsStatus status, final Headers headers,
+            final List<ByteBuffer> body, final long expires) {
+            this.path = path;
+            this.status = status;
+            this.headers = headers;
+            final List<ByteBuffer> chunks = new ArrayList<>(body.size());
+            long total = 0;
+            for (final ByteBuffer chunk : body) {
+                chunks.add(chunk.asReadOnlyBuffer());
+                total += chunk.remaining();
+            }
+            this.body = Collections.unmodifiableList(chunks);
+            this.size = total;
+            this.expires = expires;
+            for (final Map.Entry<String, String> header : headers) {
+                total += header.getKey().length() + header.getValue().length();
+            }
+            this.weight = total;
+        }
+
+        /**
+         * Replay cached response.
+         * @return Response
+         */
+        Response response() {
+            return connection -> connection.accept(
+                this.status, this.headers,
+                new Content.From(
+                    Optional.of(this.size),
+                    Flowable.fromIterable(this.body).map(ByteBuffer::duplicate)
+                )
+            );
+        }
+
+        /**
+         * Entry weight: body size and headers length.
+         * @return Weight in bytes
+         */
+        long weight() {
+            return this.weight;
+        }
+
+        /**
+         * Check if entry is expired.
+         * @param now Current time by {@link System#nanoTime()}
+         * @return True if expired
+         */
+        boolean expired(final long now) {
+            return now - this.expires >= 0;
+        }
+    }
+}
@@ -4,6 +4,7 @@
  */
 package com.artipie.http.slice;
 
+import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.http.Headers;
@@ -12,12 +13,11 @@ import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.headers.ContentFileName;
 import com.artipie.http.rq.RequestLineFrom;
-import com.artipie.http.rs.RsFull;
 import com.artipie.http.rs.RsStatus;
-import com.artipie.http.rs.RsWithBody;
-import com.artipie.http.rs.StandardRs;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import java.net.URI;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -28,7 +28,13 @@ import org.reactivestreams.Publisher;
  * This slice responds with value from storage by key from path.
  * <p>
  * It converts URI path to storage {@link com.artipie.asto.Key}
- * and use it to access storage.
+ * and use it to access storage. Storage metadata is read first: responses
+ * have {@code ETag} and {@code Last-Modified} headers if metadata provides them,
+ * conditional requests are answered with {@code 304 Not Modified} without reading
+ * the content, {@code Range} requests are served with partial content. The value
+ * is opened only when content is sent. Missing values are detected by
+ * {@link com.artipie.asto.ValueNotFoundException} without separate
+ * existence check.
  * </p>
  *
  * @see SliceUpload
@@ -71,41 +77,55 @@ public final class SliceDownload implements Slice {
     public Response response(final String line,
         final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        return new AsyncResponse(
-            CompletableFuture
-                .supplyAsync(new RequestLineFrom(line)::uri)
-                .thenCompose(
-                    uri -> {
-                        final Key key = this.transform.apply(uri.getPath());
-                        return this.storage.exists(key)
-                            .thenCompose(
-                                exist -> {
-                                    final CompletionStage<Response> result;
-                                    if (exist) {
-                                        result = this.storage.value(key)
-                                            .thenApply(
-                                                content -> new RsFull(
-                                                    RsStatus.OK,
-                                                    new Headers.From(
-                                                        new ContentFileName(uri)
-                                                    ),
-                                                    content
-                                                )
-                                            );
-                                    } else {
-                                        result = CompletableFuture.completedFuture(
-                                            new RsWithBody(
-                                                StandardRs.NOT_FOUND,
-                                                String.format("Key %s not found", key.string()),
-                                                StandardCharsets.UTF_8
-                                            )
-                                        );
-                                    }
-                                    return result;
-                                }
-                            );
-                    }
+        final URI uri = new RequestLineFrom(line).uri();
+        final Key key = this.transform.apply(uri.getPath());
+        final CompletionStage<Response> res = this.storage.metadata(key).thenCompose(
+            meta -> this.conditional(key, uri, headers, new Validators(meta))
+        );
+        return new AsyncResponse(new KeyNotFound(key).recover(res));
+    }
+
+    /**
+     * Response with content or {@code 304 Not Modified} response.
+     * @param key Storage key
+     * @param uri Request URI
+     * @param headers Request headers
+     * @param validators Content validators
+     * @return Response future
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    CompletionStage<Response> conditional(final Key key, final URI uri,
+        final Iterable<Map.Entry<String, String>> headers, final Validators validators) {
+        final CompletionStage<Response> res;
+        if (validators.notModified(headers)) {
+            res = CompletableFuture.completedFuture(
+                new RsWithHeaders(
+                    new RsWithStatus(RsStatus.NOT_MODIFIED), validators.headers()
                 )
+            );
+        } else {
+            res = this.storage.value(key).thenApply(
+                content -> SliceDownload.content(uri, headers, validators, content)
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Response with content.
+     * @param uri Request URI
+     * @param headers Request headers
+     * @param validators Content validators
+     * @param content Content
+     * @return Full or partial content response
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static Response content(final URI uri,
+        final Iterable<Map.Entry<String, String>> headers, final Validators validators,
+        final Content content) {
+        return new PartialContent(headers, validators).response(
+            new Headers.From(new Headers.From(new ContentFileName(uri)), validators.headers()),
+            content
         );
     }
 }
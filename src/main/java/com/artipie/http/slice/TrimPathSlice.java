@@ -4,6 +4,7 @@
  */
 package com.artipie.http.slice;
 
+import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.headers.Header;
@@ -13,11 +14,8 @@ import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.RsWithStatus;
-import com.google.common.collect.Iterables;
-import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -84,8 +82,7 @@ public final class TrimPathSlice implements Slice {
         final Publisher<ByteBuffer> body
     ) {
         final RequestLineFrom rline = new RequestLineFrom(line);
-        final URI uri = rline.uri();
-        final String full = uri.getPath();
+        final String full = rline.path();
         final Matcher matcher = this.ptn.matcher(full);
         final Response response;
         final boolean recursion = !new RqHeaders(headers, TrimPathSlice.HDR_FULL_PATH).isEmpty();
@@ -95,15 +92,12 @@ public final class TrimPathSlice implements Slice {
             response = this.slice.response(
                 new RequestLine(
                     rline.method().toString(),
-                    new URIBuilder(uri)
+                    new URIBuilder(rline.uri())
                         .setPath(asPath(matcher.group(1)))
                         .toString(),
                     rline.version()
                 ).toString(),
-                Iterables.concat(
-                    headers,
-                    Collections.singletonList(new Header(TrimPathSlice.HDR_FULL_PATH, full))
-                ),
+                new Headers.From(headers, new Header(TrimPathSlice.HDR_FULL_PATH, full)),
                 body
             );
         } else {
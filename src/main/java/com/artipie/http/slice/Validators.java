@@ -0,0 +1,248 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Meta;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RqHeaders;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Content validators: {@code ETag} and {@code Last-Modified}, see
+ * <a href="https://www.rfc-editor.org/rfc/rfc7232">RFC 7232</a>.
+ * <p>
+ * Strong entity tag is built from MD5 checksum of the content, weak entity tag is built
+ * from size and modification time if checksum is not available.
+ * </p>
+ * @since 1.2
+ */
+final class Validators {
+
+    /**
+     * ETag header name.
+     */
+    static final String ETAG = "ETag";
+
+    /**
+     * Last-Modified header name.
+     */
+    static final String LAST_MODIFIED = "Last-Modified";
+
+    /**
+     * HTTP date format.
+     */
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter
+        .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+        .withZone(ZoneOffset.UTC);
+
+    /**
+     * Weak entity tag prefix.
+     */
+    private static final String WEAK = "W/";
+
+    /**
+     * Entity tag with quotes.
+     */
+    private final Optional<String> etag;
+
+    /**
+     * Last modification time.
+     */
+    private final Optional<Instant> modified;
+
+    /**
+     * Validators from storage metadata.
+     * @param meta Metadata
+     */
+    Validators(final Meta meta) {
+        this(Validators.etag(meta), meta.read(Meta.OP_UPDATED_AT).map(Instant::from));
+    }
+
+    /**
+     * Validators from response headers.
+     * @param headers Response headers
+     */
+    Validators(final Headers headers) {
+        this(
+            headers.first(Validators.ETAG),
+            headers.first(Validators.LAST_MODIFIED).flatMap(Validators::date)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param etag Entity tag with quotes
+     * @param modified Last modification time
+     */
+    Validators(final Optional<String> etag, final Optional<Instant> modified) {
+        this.etag = etag;
+        this.modified = modified.map(time -> time.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * Validator headers.
+     * @return Headers
+     */
+    Headers headers() {
+        final List<Map.Entry<String, String>> res = new ArrayList<>(2);
+        this.etag.ifPresent(tag -> res.add(new Header(Validators.ETAG, tag)));
+        this.modified.ifPresent(
+            time -> res.add(new Header(Validators.LAST_MODIFIED, Validators.FORMAT.format(time)))
+        );
+        return new Headers.From(res);
+    }
+
+    /**
+     * Entity tag.
+     * @return Entity tag with quotes if available
+     */
+    Optional<String> tag() {
+        return this.etag;
+    }
+
+    /**
+     * Validators of encoded representation: strong entity tag is converted to weak one.
+     * @return Validators with weak entity tag
+     */
+    Validators weak() {
+        return new Validators(
+            this.etag.map(
+                tag -> {
+                    final String res;
+                    if (tag.startsWith(Validators.WEAK)) {
+                        res = tag;
+                    } else {
+                        res = Validators.WEAK.concat(tag);
+                    }
+                    return res;
+                }
+            ),
+            this.modified
+        );
+    }
+
+    /**
+     * Check if request conditions allow to answer with {@code 304 Not Modified}.
+     * <p>
+     * {@code If-None-Match} is evaluated with weak comparison, {@code If-Modified-Since}
+     * is evaluated only if there is no {@code If-None-Match} header.
+     * </p>
+     * @param rqheaders Request headers
+     * @return True if content was not modified
+     */
+    boolean notModified(final Iterable<Map.Entry<String, String>> rqheaders) {
+        final List<String> nonematch = new RqHeaders(rqheaders, "If-None-Match");
+        boolean res = false;
+        if (nonematch.isEmpty()) {
+            final List<String> since = new RqHeaders(rqheaders, "If-Modified-Since");
+            if (since.size() == 1 && this.modified.isPresent()) {
+                res = Validators.date(since.get(0))
+                    .map(date -> !this.modified.get().isAfter(date))
+                    .orElse(false);
+            }
+        } else if (this.etag.isPresent()) {
+            final String tag = Validators.opaque(this.etag.get());
+            for (final String value : nonematch) {
+                for (final String item : value.split(",")) {
+                    final String trimmed = item.trim();
+                    if ("*".equals(trimmed) || tag.equals(Validators.opaque(trimmed))) {
+                        res = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Check {@code If-Range} condition with strong comparison.
+     * @param value If-Range header value
+     * @return True if range may be served
+     */
+    boolean ifRange(final String value) {
+        final String trimmed = value.trim();
+        final boolean res;
+        if (trimmed.startsWith("\"")) {
+            res = this.etag.map(trimmed::equals).orElse(false);
+        } else if (trimmed.startsWith(Validators.WEAK)) {
+            res = false;
+        } else {
+            res = this.modified.isPresent()
+                && Validators.date(trimmed).map(this.modified.get()::equals).orElse(false);
+        }
+        return res;
+    }
+
+    /**
+     * Entity tag from metadata.
+     * @param meta Metadata
+     * @return Entity tag with quotes
+     */
+    private static Optional<String> etag(final Meta meta) {
+        final Optional<String> res;
+        final Optional<? extends String> md5 = meta.read(Meta.OP_MD5);
+        if (md5.isPresent()) {
+            res = Optional.of(String.format("\"%s\"", md5.get()));
+        } else {
+            final Optional<? extends Long> size = meta.read(Meta.OP_SIZE);
+            final Optional<? extends Instant> updated = meta.read(Meta.OP_UPDATED_AT);
+            if (size.isPresent() && updated.isPresent()) {
+                res = Optional.of(
+                    String.format(
+                        "%s\"%x-%x\"", Validators.WEAK, size.get(), updated.get().toEpochMilli()
+                    )
+                );
+            } else {
+                res = Optional.empty();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Entity tag without weakness indicator.
+     * @param tag Entity tag
+     * @return Opaque tag
+     */
+    private static String opaque(final String tag) {
+        final String res;
+        if (tag.startsWith(Validators.WEAK)) {
+            res = tag.substring(Validators.WEAK.length());
+        } else {
+            res = tag;
+        }
+        return res;
+    }
+
+    /**
+     * Parse HTTP date.
+     * @param value Date header value
+     * @return Instant if date is valid
+     */
+    private static Optional<Instant> date(final String value) {
+        Optional<Instant> res;
+        try {
+            res = Optional.of(
+                ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant()
+            );
+        } catch (final DateTimeException ignored) {
+            res = Optional.empty();
+        }
+        return res;
+    }
+}
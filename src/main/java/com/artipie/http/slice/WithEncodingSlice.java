@@ -0,0 +1,249 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletionStage;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice which encodes response body with content coding negotiated by
+ * {@code Accept-Encoding} request header.
+ * <p>
+ * Body is not encoded if response has no body or already has {@code Content-Encoding}
+ * or {@code Content-Range} header, if it's known to be smaller than the threshold, or
+ * if it has compressed media type (or file extension if response has no
+ * {@code Content-Type}). Encodable responses and {@code 304} responses of compressible
+ * media types get {@code Vary: Accept-Encoding} header, strong {@code ETag} of encoded
+ * response is converted to weak one. Responses to {@code HEAD} requests get the same
+ * headers as {@code GET} responses, their body is not encoded. The request line is not
+ * validated, so requests with any method are accepted.
+ * </p>
+ * @since 1.2
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class WithEncodingSlice implements Slice {
+
+    /**
+     * Default size threshold in bytes.
+     */
+    private static final long THRESHOLD = 1024;
+
+    /**
+     * Compressed media types.
+     */
+    private static final List<String> COMPRESSED_TYPES = Arrays.asList(
+        "image/", "audio/", "video/", "font/woff", "application/zip", "application/gzip",
+        "application/x-gzip", "application/java-archive", "application/x-bzip2",
+        "application/x-xz", "application/zstd", "application/x-7z-compressed",
+        "application/x-rar-compressed", "application/vnd.rar", "application/x-rpm",
+        "application/vnd.debian.binary-package", "application/x-compress"
+    );
+
+    /**
+     * Compressed file extensions.
+     */
+    private static final List<String> COMPRESSED_EXT = Arrays.asList(
+        ".jar", ".war", ".ear", ".zip", ".gz", ".tgz", ".bz2", ".xz", ".zst", ".7z",
+        ".rar", ".whl", ".egg", ".nupkg", ".gem", ".rpm", ".deb", ".apk", ".png", ".jpg",
+        ".jpeg", ".gif", ".webp", ".woff", ".woff2", ".br"
+    );
+
+    /**
+     * Vary header name.
+     */
+    private static final String VARY = "Vary";
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Available codings in preference order.
+     */
+    private final List<ContentCoding> codings;
+
+    /**
+     * Min body size to encode.
+     */
+    private final long threshold;
+
+    /**
+     * Encode origin response with codings registered with {@link ServiceLoader},
+     * gzip and deflate.
+     * @param origin Origin slice
+     */
+    public WithEncodingSlice(final Slice origin) {
+        this(origin, WithEncodingSlice.available(), WithEncodingSlice.THRESHOLD);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin slice
+     * @param codings Available codings in preference order
+     * @param threshold Min body size to encode, bodies of unknown size are always encoded
+     */
+    public WithEncodingSlice(final Slice origin, final List<ContentCoding> codings,
+        final long threshold) {
+        this.origin = origin;
+        this.codings = Collections.unmodifiableList(new ArrayList<>(codings));
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final Optional<ContentCoding> coding = new AcceptEncoding(headers).select(this.codings);
+        final RequestLineFrom rqline = new RequestLineFrom(line);
+        final boolean head = RqMethod.HEAD.value().equals(rqline.methodToken());
+        final String path = rqline.targetPath();
+        final Response rsp = this.origin.response(line, headers, body);
+        return connection -> rsp.send(
+            (status, rsheaders, rsbody) -> {
+                final CompletionStage<Void> res;
+                if (status == RsStatus.NOT_MODIFIED
+                    && WithEncodingSlice.compressible(rsheaders, path)) {
+                    res = connection.accept(status, WithEncodingSlice.vary(rsheaders), rsbody);
+                } else if (!this.encodable(status, rsheaders, path)) {
+                    res = connection.accept(status, rsheaders, rsbody);
+                } else if (coding.isPresent()) {
+                    final Publisher<ByteBuffer> encoded;
+                    if (head) {
+                        encoded = rsbody;
+                    } else {
+                        encoded = coding.get().encode(rsbody);
+                    }
+                    res = connection.accept(
+                        status, WithEncodingSlice.encoded(rsheaders, coding.get()), encoded
+                    );
+                } else {
+                    res = connection.accept(status, WithEncodingSlice.vary(rsheaders), rsbody);
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Check if response body can be encoded.
+     * @param status Response status
+     * @param headers Response headers
+     * @param path Request path
+     * @return True if encodable
+     */
+    private boolean encodable(final RsStatus status, final Headers headers, final String path) {
+        boolean res = status != RsStatus.NO_CONTENT && status != RsStatus.NOT_MODIFIED
+            && status != RsStatus.PARTIAL_CONTENT
+            && !headers.first("Content-Encoding").isPresent()
+            && !headers.first("Content-Range").isPresent();
+        if (res) {
+            final Optional<String> length = headers.first(ContentLength.NAME);
+            if (length.isPresent()) {
+                try {
+                    res = Long.parseLong(length.get().trim()) >= this.threshold;
+                } catch (final NumberFormatException ignored) {
+                    res = true;
+                }
+            }
+        }
+        return res && WithEncodingSlice.compressible(headers, path);
+    }
+
+    /**
+     * Check if response media type or request path extension is not compressed.
+     * @param headers Response headers
+     * @param path Request path
+     * @return True if compressible
+     */
+    private static boolean compressible(final Headers headers, final String path) {
+        final Optional<String> type = headers.first(ContentType.NAME);
+        final boolean res;
+        if (type.isPresent()) {
+            final String lower = type.get().trim().toLowerCase(Locale.US);
+            res = WithEncodingSlice.COMPRESSED_TYPES.stream().noneMatch(lower::startsWith)
+                || lower.startsWith("image/svg");
+        } else {
+            final String lower = path.toLowerCase(Locale.US);
+            res = WithEncodingSlice.COMPRESSED_EXT.stream().noneMatch(lower::endsWith);
+        }
+        return res;
+    }
+
+    /**
+     * Headers of encoded response.
+     * @param headers Response headers
+     * @param coding Content coding
+     * @return Headers with Vary and Content-Encoding, without Content-Length
+     */
+    private static Headers encoded(final Headers headers, final ContentCoding coding) {
+        final List<Map.Entry<String, String>> res = new ArrayList<>(10);
+        for (final Map.Entry<String, String> header : WithEncodingSlice.vary(headers)) {
+            if (Validators.ETAG.equalsIgnoreCase(header.getKey())
+                && header.getValue().startsWith("\"")) {
+                res.add(new Header(header.getKey(), String.format("W/%s", header.getValue())));
+            } else if (!ContentLength.NAME.equalsIgnoreCase(header.getKey())) {
+                res.add(header);
+            }
+        }
+        res.add(new Header("Content-Encoding", coding.name()));
+        return new Headers.From(res);
+    }
+
+    /**
+     * Add {@code Accept-Encoding} to {@code Vary} header.
+     * @param headers Response headers
+     * @return Headers with Vary
+     */
+    private static Headers vary(final Headers headers) {
+        final List<String> values = headers.all(WithEncodingSlice.VARY);
+        boolean present = false;
+        for (final String value : values) {
+            for (final String item : value.split(",")) {
+                final String trimmed = item.trim();
+                present = present || "*".equals(trimmed)
+                    || AcceptEncoding.NAME.equalsIgnoreCase(trimmed);
+            }
+        }
+        final Headers res;
+        if (present) {
+            res = headers;
+        } else {
+            res = new Headers.From(headers, WithEncodingSlice.VARY, AcceptEncoding.NAME);
+        }
+        return res;
+    }
+
+    /**
+     * Codings registered with {@link ServiceLoader}, gzip and deflate.
+     * @return Codings in preference order
+     */
+    private static List<ContentCoding> available() {
+        final List<ContentCoding> res = new ArrayList<>(2);
+        for (final ContentCoding coding : ServiceLoader.load(ContentCoding.class)) {
+            res.add(coding);
+        }
+        res.add(new ContentCoding.Gzip());
+        res.add(new ContentCoding.Deflate());
+        return res;
+    }
+}
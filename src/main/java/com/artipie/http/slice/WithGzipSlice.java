@@ -5,16 +5,18 @@
 package com.artipie.http.slice;
 
 import com.artipie.http.Slice;
-import com.artipie.http.rt.RtRule;
-import com.artipie.http.rt.RtRulePath;
-import com.artipie.http.rt.SliceRoute;
-import java.util.regex.Pattern;
+import java.util.Collections;
 
 /**
- * This slice checks that request Accept-Encoding header contains gzip value,
+ * This slice checks that request Accept-Encoding header accepts gzip coding,
  * compress output body with gzip and adds {@code Content-Encoding: gzip} header.
  * <p>
  * <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Content-Encoding">Headers Docs</a>.
+ * </p>
+ * <p>
+ * Quality values of {@code Accept-Encoding} are taken into account, see
+ * {@link WithEncodingSlice} for other codings and encoding conditions.
+ * </p>
  * @since 1.1
  */
 public final class WithGzipSlice extends Slice.Wrap {
@@ -26,12 +28,8 @@ public final class WithGzipSlice extends Slice.Wrap {
      */
     public WithGzipSlice(final Slice origin) {
         super(
-            new SliceRoute(
-                new RtRulePath(
-                    new RtRule.ByHeader("Accept-Encoding", Pattern.compile(".*gzip.*")),
-                    new GzipSlice(origin)
-                ),
-                new RtRulePath(RtRule.FALLBACK, origin)
+            new WithEncodingSlice(
+                origin, Collections.singletonList(new ContentCoding.Gzip()), 0
             )
         );
     }
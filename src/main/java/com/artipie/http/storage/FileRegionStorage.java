@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.storage;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.asto.fs.FileStorage;
+import com.artipie.http.rs.FileRegion;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * File system storage which reads values as {@link FileRegion}.
+ * <p>
+ * Values of this storage can be sent by connections directly from the file
+ * without copying them through the heap, see {@link FileRegion}. File size is read
+ * by {@link FileStorage} metadata call asynchronously, so the caller thread is not
+ * blocked, and it's checked again when the region is opened. Values without size
+ * metadata and all other operations are delegated to {@link FileStorage}.
+ * </p>
+ * @since 1.2
+ */
+public final class FileRegionStorage extends Storage.Wrap {
+
+    /**
+     * Storage root directory.
+     */
+    private final Path root;
+
+    /**
+     * Ctor.
+     * @param root Storage root directory
+     */
+    public FileRegionStorage(final Path root) {
+        super(new FileStorage(root));
+        this.root = root;
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        final Path file = this.root.resolve(key.string());
+        return super.metadata(key).handle(
+            (meta, err) -> {
+                final CompletableFuture<Content> res;
+                final Optional<? extends Long> size;
+                if (err == null) {
+                    size = meta.read(Meta.OP_SIZE);
+                } else {
+                    size = Optional.empty();
+                }
+                if (size.isPresent()) {
+                    res = CompletableFuture.completedFuture(new FileRegion(file, size.get()));
+                } else {
+                    res = super.value(key);
+                }
+                return res;
+            }
+        ).thenCompose(Function.identity());
+    }
+}
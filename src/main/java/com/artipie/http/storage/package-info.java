@@ -0,0 +1,10 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+
+/**
+ * Storage adapters for HTTP responses.
+ * @since 1.2
+ */
+package com.artipie.http.storage;
@@ -5,6 +5,9 @@
 package com.artipie.http;
 
 import com.artipie.http.headers.Header;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -37,4 +40,58 @@ class HeadersFromTest {
             Matchers.contains(origin, one, two)
         );
     }
+
+    @Test
+    void findsAllValuesIgnoringCase() {
+        MatcherAssert.assertThat(
+            new Headers.From(
+                new Header("Accept", "text/html"),
+                new Header("Content-Type", "text/plain"),
+                new Header("accept", "application/json")
+            ).all("ACCEPT"),
+            Matchers.contains("text/html", "application/json")
+        );
+    }
+
+    @Test
+    void findsFirstValueIgnoringCase() {
+        MatcherAssert.assertThat(
+            new Headers.From(
+                new Header("x-one", "1"),
+                new Header("X-Two", "2"),
+                new Header("x-two", "3")
+            ).first("x-TWO").get(),
+            Matchers.equalTo("2")
+        );
+    }
+
+    @Test
+    void returnsEmptyIfHeaderIsAbsent() {
+        final Headers headers = new Headers.From("Content-Length", "10");
+        MatcherAssert.assertThat(
+            "Values list is not empty",
+            headers.all("Content-Type"),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            "First value is present",
+            headers.first("Content-Type").isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void findsValuesAmongManyHeaders() {
+        final List<Map.Entry<String, String>> list = new ArrayList<>(100);
+        for (int num = 0; num < 100; ++num) {
+            list.add(new Header(String.format("X-Header-%d", num), String.valueOf(num)));
+        }
+        final Headers headers = new Headers.From(list);
+        for (int num = 0; num < 100; ++num) {
+            MatcherAssert.assertThat(
+                headers.all(String.format("x-header-%d", num)),
+                Matchers.contains(String.valueOf(num))
+            );
+        }
+    }
 }
@@ -9,6 +9,7 @@ import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -42,4 +43,41 @@ class AsyncResponseTest {
             new IsEqual<>(true)
         );
     }
+
+    @Test
+    void shouldNotSendIfCancelled() {
+        final CompletableFuture<Response> future = new CompletableFuture<>();
+        final AtomicBoolean sent = new AtomicBoolean();
+        new AsyncResponse(future)
+            .send((status, headers, body) -> CompletableFuture.allOf())
+            .toCompletableFuture()
+            .cancel(true);
+        future.complete(
+            connection -> {
+                sent.set(true);
+                return CompletableFuture.allOf();
+            }
+        );
+        MatcherAssert.assertThat(sent.get(), new IsEqual<>(false));
+    }
+
+    @Test
+    void shouldPropagateCancellation() {
+        final CompletableFuture<Void> sending = new CompletableFuture<>();
+        new AsyncResponse(CompletableFuture.completedFuture(connection -> sending))
+            .send((status, headers, body) -> CompletableFuture.allOf())
+            .toCompletableFuture()
+            .cancel(true);
+        MatcherAssert.assertThat(sending.isCancelled(), new IsEqual<>(true));
+    }
+
+    @Test
+    void shouldCancelSource() {
+        final CompletableFuture<Response> source = new CompletableFuture<>();
+        new AsyncResponse(source)
+            .send((status, headers, body) -> CompletableFuture.allOf())
+            .toCompletableFuture()
+            .cancel(true);
+        MatcherAssert.assertThat(source.isCancelled(), new IsEqual<>(true));
+    }
 }
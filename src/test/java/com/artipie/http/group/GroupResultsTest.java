@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link GroupResults}.
+ * @since 1.2
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class GroupResultsTest {
+
+    @Test
+    void repliesFirstOrderedResultOnceUnderConcurrentCompletion() throws Exception {
+        final int size = 64;
+        final ExecutorService exec = Executors.newFixedThreadPool(8);
+        try {
+            for (int attempt = 0; attempt < 50; ++attempt) {
+                final AtomicInteger replies = new AtomicInteger();
+                final AtomicReference<RsStatus> replied = new AtomicReference<>();
+                final Connection con = (status, headers, body) -> {
+                    replies.incrementAndGet();
+                    replied.set(status);
+                    return CompletableFuture.allOf();
+                };
+                final CompletableFuture<Void> future = new CompletableFuture<>();
+                final GroupResults results = new GroupResults(size, future);
+                final List<Integer> order = new ArrayList<>(size);
+                for (int idx = 0; idx < size; ++idx) {
+                    order.add(idx);
+                }
+                Collections.shuffle(order);
+                final CountDownLatch start = new CountDownLatch(1);
+                for (final int idx : order) {
+                    exec.execute(
+                        () -> {
+                            try {
+                                start.await();
+                            } catch (final InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                            }
+                            results.complete(
+                                idx, GroupResultsTest.result(idx == size - 1), con
+                            );
+                        }
+                    );
+                }
+                start.countDown();
+                future.get(5, TimeUnit.SECONDS);
+                MatcherAssert.assertThat("Replied once", replies.get(), Matchers.equalTo(1));
+                MatcherAssert.assertThat(replied.get(), Matchers.equalTo(RsStatus.OK));
+            }
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    void repliesNotFoundIfAllFailed() {
+        final AtomicReference<RsStatus> replied = new AtomicReference<>();
+        final Connection con = (status, headers, body) -> {
+            replied.set(status);
+            return CompletableFuture.allOf();
+        };
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final GroupResults results = new GroupResults(3, future);
+        results.complete(2, GroupResultsTest.result(false), con);
+        results.complete(0, GroupResultsTest.result(false), con);
+        results.complete(1, GroupResultsTest.result(false), con);
+        MatcherAssert.assertThat("Completed", future.isDone(), Matchers.is(true));
+        MatcherAssert.assertThat(replied.get(), Matchers.equalTo(RsStatus.NOT_FOUND));
+    }
+
+    /**
+     * Result.
+     * @param success Success status if true, not found otherwise
+     * @return Group result
+     */
+    private static GroupResult result(final boolean success) {
+        final RsStatus status;
+        if (success) {
+            status = RsStatus.OK;
+        } else {
+            status = RsStatus.NOT_FOUND;
+        }
+        return new GroupResult(status, Headers.EMPTY, Flowable.<ByteBuffer>empty());
+    }
+}
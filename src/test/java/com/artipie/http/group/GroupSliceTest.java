@@ -20,7 +20,10 @@ import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -92,6 +95,208 @@ final class GroupSliceTest {
         );
     }
 
+    @Test
+    @Timeout(1)
+    void returnsFastResponseAfterDeadline() {
+        // @checkstyle MagicNumberCheck (10 lines)
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                Duration.ofMillis(50),
+                slice(RsStatus.OK, "ok-never", Duration.ofDays(1)),
+                slice(RsStatus.NOT_FOUND, "not-found-10", Duration.ofMillis(10)),
+                slice(RsStatus.OK, "ok-100", Duration.ofMillis(100))
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.OK),
+                    new RsHasBody("ok-100", StandardCharsets.UTF_8)
+                ),
+                new RequestLine(RqMethod.GET, "/race")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void honorsOrderWithinDeadline() {
+        // @checkstyle MagicNumberCheck (10 lines)
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                Duration.ofMillis(500),
+                slice(RsStatus.OK, "ok-100", Duration.ofMillis(100)),
+                slice(RsStatus.OK, "ok-10", Duration.ofMillis(10))
+            ),
+            new SliceHasResponse(
+                new RsHasBody("ok-100", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/ordered")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void returnsNotFoundIfAllFailsAfterDeadline() {
+        // @checkstyle MagicNumberCheck (10 lines)
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                Duration.ofMillis(10),
+                slice(RsStatus.NOT_FOUND, "not-found-100", Duration.ofMillis(100)),
+                slice(RsStatus.NOT_FOUND, "not-found-50", Duration.ofMillis(50))
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, "/missing")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void doesNotRequestNextTargetSequentially() {
+        final AtomicInteger calls = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "Response of the first target",
+            new GroupSlice(
+                Fanout.SEQUENTIAL,
+                Arrays.asList(
+                    slice(RsStatus.OK, "ok-first", Duration.ZERO),
+                    counting(calls, slice(RsStatus.OK, "ok-second", Duration.ZERO))
+                )
+            ),
+            new SliceHasResponse(
+                new RsHasBody("ok-first", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/seq")
+            )
+        );
+        MatcherAssert.assertThat("Second target calls", calls.get(), Matchers.equalTo(0));
+    }
+
+    @Test
+    @Timeout(1)
+    void requestsNextTargetOnFailure() {
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                Fanout.SEQUENTIAL,
+                Arrays.asList(
+                    slice(RsStatus.NOT_FOUND, "not-found", Duration.ZERO),
+                    slice(RsStatus.NOT_FOUND, "not-found-second", Duration.ZERO),
+                    slice(RsStatus.OK, "ok-third", Duration.ZERO)
+                )
+            ),
+            new SliceHasResponse(
+                new RsHasBody("ok-third", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/fallthrough")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void requestsNextTargetAfterHedgeDelay() {
+        // @checkstyle MagicNumberCheck (10 lines)
+        final AtomicInteger calls = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "Response of the first target",
+            new GroupSlice(
+                new Fanout(Duration.ofMillis(10)),
+                Arrays.asList(
+                    slice(RsStatus.OK, "ok-200", Duration.ofMillis(200)),
+                    counting(calls, slice(RsStatus.OK, "ok-second", Duration.ZERO))
+                )
+            ),
+            new SliceHasResponse(
+                new RsHasBody("ok-200", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/hedged")
+            )
+        );
+        MatcherAssert.assertThat("Second target calls", calls.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    @Timeout(1)
+    void skipsTargetsWhichRecentlyNotFound() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            Fanout.BROADCAST,
+            new NegativeCache(10, Duration.ofMinutes(1)),
+            Arrays.asList(
+                counting(calls, new SliceSimple(new RsWithStatus(RsStatus.NOT_FOUND))),
+                new SliceSimple(new RsWithStatus(RsStatus.OK))
+            )
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                group,
+                new SliceHasResponse(
+                    new RsHasStatus(RsStatus.OK),
+                    new RequestLine(RqMethod.GET, "/lib.jar")
+                )
+            );
+        }
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    @Timeout(1)
+    void invalidatesNotFoundOnWrite() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            Fanout.SEQUENTIAL,
+            new NegativeCache(10, Duration.ofMinutes(1)),
+            Collections.singletonList(
+                counting(calls, new SliceSimple(new RsWithStatus(RsStatus.NOT_FOUND)))
+            )
+        );
+        MatcherAssert.assertThat(
+            "First read",
+            group,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND), new RequestLine(RqMethod.GET, "/a.pom")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Write",
+            group,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND), new RequestLine(RqMethod.PUT, "/a.pom")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Second read",
+            group,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND), new RequestLine(RqMethod.GET, "/a.pom")
+            )
+        );
+        // @checkstyle MagicNumberCheck (1 line)
+        MatcherAssert.assertThat("Target calls", calls.get(), Matchers.equalTo(3));
+    }
+
+    @Test
+    @Timeout(1)
+    void cancelsPendingResponsesWhenReplied() {
+        final CompletableFuture<Void> pending = new CompletableFuture<>();
+        MatcherAssert.assertThat(
+            "Group response",
+            new GroupSlice(
+                Duration.ofMillis(10),
+                (line, headers, body) -> connection -> pending,
+                new SliceSimple(new RsWithStatus(RsStatus.OK))
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK), new RequestLine(RqMethod.GET, "/a.jar")
+            )
+        );
+        MatcherAssert.assertThat("Pending cancelled", pending.isCancelled(), Matchers.is(true));
+    }
+
+    private static Slice counting(final AtomicInteger calls, final Slice origin) {
+        return (line, headers, body) -> {
+            calls.incrementAndGet();
+            return origin.response(line, headers, body);
+        };
+    }
+
     private static Slice slice(final RsStatus status, final String body, final Duration delay) {
         return new SliceWithDelay(
             new SliceSimple(
@@ -0,0 +1,41 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link NegativeCache}.
+ * @since 1.2
+ */
+final class NegativeCacheTest {
+
+    @Test
+    void containsPutEntry() {
+        final NegativeCache cache = new NegativeCache(10, Duration.ofMinutes(1));
+        cache.put(1, "/a.jar");
+        MatcherAssert.assertThat("Same target", cache.contains(1, "/a.jar"), Matchers.is(true));
+        MatcherAssert.assertThat("Other target", cache.contains(2, "/a.jar"), Matchers.is(false));
+        cache.invalidate(1, "/a.jar");
+        MatcherAssert.assertThat("Invalidated", cache.contains(1, "/a.jar"), Matchers.is(false));
+    }
+
+    @Test
+    void disabledCacheDoesNotStore() {
+        NegativeCache.DISABLED.put(0, "/b.jar");
+        MatcherAssert.assertThat(NegativeCache.DISABLED.contains(0, "/b.jar"), Matchers.is(false));
+    }
+
+    @Test
+    void expiresEntries() throws Exception {
+        final NegativeCache cache = new NegativeCache(10, Duration.ofMillis(1));
+        cache.put(0, "/c.jar");
+        Thread.sleep(10);
+        MatcherAssert.assertThat(cache.contains(0, "/c.jar"), Matchers.is(false));
+    }
+}
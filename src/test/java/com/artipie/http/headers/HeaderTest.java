@@ -7,6 +7,7 @@ package com.artipie.http.headers;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -46,7 +47,9 @@ final class HeaderTest {
         "abc,abc",
         " abc,abc",
         "\tabc,abc",
-        "abc ,abc "
+        "abc ,abc ",
+        "' \t abc',abc",
+        "' \t ',''"
     })
     void shouldTrimValueLeadingWhitespaces(final String original, final String expected) {
         MatcherAssert.assertThat(
@@ -55,6 +58,15 @@ final class HeaderTest {
         );
     }
 
+    @Test
+    void keepsSameValueInstanceWithoutLeadingWhitespaces() {
+        final String value = "text/plain";
+        MatcherAssert.assertThat(
+            new Header("Content-Type", value).getValue(),
+            new IsSame<>(value)
+        );
+    }
+
     @Test
     void toStringHeader() throws Exception {
         MatcherAssert.assertThat(
@@ -23,6 +23,7 @@ import org.junit.jupiter.params.provider.CsvSource;
  *
  * @since 1.0
  * @checkstyle ParameterNumberCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 @SuppressWarnings("PMD.UseObjectForClearerAPI")
 final class ByteBufferTokenizerTest {
@@ -35,24 +36,31 @@ final class ByteBufferTokenizerTest {
         "/,|,o/n/e/|/t/w/o/|/t/h/r/e/e,one/two/three",
         "/,|,|||,///",
         "/,--boundary--,one-/-/b/o/u/n/d/a/r/y/-/-two--b/oun/dar/y--three,one/two/three",
-        "/,---,o/n/e/---/t/w/o--/-three---four-/-/-,one/two/three/four/"
+        "/,---,o/n/e/---/t/w/o--/-three---four-/-/-,one/two/three/four/",
+        "/,abab,aab/abab/ab,a//"
     })
     public void splitByTokens(final String split, final String delim, final String source,
         final String expect) {
-        for (int cap = 1; cap < source.length() + 1; ++cap) {
-            final Deque<ByteBuffer> result = new LinkedList<>();
-            try (AccReceiver rec = new AccReceiver(result);
-                ByteBufferTokenizer target = new ByteBufferTokenizer(rec, delim.getBytes(), cap)) {
-                Arrays.asList(source.split(split)).stream()
-                    .map(String::getBytes)
-                    .map(ByteBuffer::wrap)
-                    .map(ByteBuffer::asReadOnlyBuffer)
-                    .forEach(target::push);
+        for (final boolean slices : new boolean[]{false, true}) {
+            for (int cap = 1; cap < source.length() + 1; ++cap) {
+                final Deque<ByteBuffer> result = new LinkedList<>();
+                try (AccReceiver rec = new AccReceiver(result);
+                    ByteBufferTokenizer target = new ByteBufferTokenizer(
+                        rec, delim.getBytes(), cap, slices
+                    )) {
+                    Arrays.asList(source.split(split)).stream()
+                        .map(String::getBytes)
+                        .map(ByteBuffer::wrap)
+                        .map(ByteBuffer::asReadOnlyBuffer)
+                        .forEach(target::push);
+                }
+                MatcherAssert.assertThat(
+                    String.format("Tokens with slices=%b and cap=%d", slices, cap),
+                    result.stream().map(ByteBufferTokenizerTest::bufToStr)
+                        .collect(Collectors.toList()),
+                    Matchers.contains(expect.split(split, -1))
+                );
             }
-            MatcherAssert.assertThat(
-                result.stream().map(ByteBufferTokenizerTest::bufToStr).collect(Collectors.toList()),
-                Matchers.contains(expect.split(split, -1))
-            );
         }
     }
 
@@ -71,6 +79,41 @@ final class ByteBufferTokenizerTest {
         );
     }
 
+    @Test
+    void splitByLongDelimiterInLargeChunks() {
+        final String delim = "\r\n--0123456789abcdef0123456789abcdef01234567";
+        final StringBuilder token = new StringBuilder();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            token.append((char) ('a' + idx % 26)).append("\r\n-");
+        }
+        final String source = String.join(delim, token, token, token);
+        final Deque<ByteBuffer> result = new LinkedList<>();
+        try (AccReceiver rec = new AccReceiver(result);
+            ByteBufferTokenizer target = new ByteBufferTokenizer(rec, delim.getBytes())) {
+            final byte[] bytes = source.getBytes(StandardCharsets.US_ASCII);
+            for (int pos = 0; pos < bytes.length; pos += 1000) {
+                target.push(ByteBuffer.wrap(bytes, pos, Math.min(1000, bytes.length - pos)));
+            }
+        }
+        MatcherAssert.assertThat(
+            result.stream().map(ByteBufferTokenizerTest::bufToStr).collect(Collectors.toList()),
+            Matchers.contains(token.toString(), token.toString(), token.toString())
+        );
+    }
+
+    @Test
+    void sendsSlicesOfChunks() {
+        final Deque<ByteBuffer> result = new LinkedList<>();
+        try (AccReceiver rec = new AccReceiver(result);
+            ByteBufferTokenizer target = new ByteBufferTokenizer(rec, "|".getBytes(), 1, true)) {
+            target.push(ByteBuffer.wrap("one|two".getBytes(StandardCharsets.US_ASCII)));
+            MatcherAssert.assertThat(
+                "Token is a read-only slice",
+                result.getFirst().isReadOnly(), Matchers.is(true)
+            );
+        }
+    }
+
     private static String bufToStr(final ByteBuffer buf) {
         final byte[] bts = new byte[buf.remaining()];
         buf.get(bts);
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Test case for {@link SerialExecutor}.
+ * @since 1.2
+ */
+final class SerialExecutorTest {
+
+    @Test
+    void runsNestedTasksAfterRunningTask() {
+        final SerialExecutor exec = new SerialExecutor();
+        final List<String> log = new ArrayList<>(3);
+        exec.execute(
+            () -> {
+                exec.execute(() -> log.add("nested"));
+                log.add("first");
+            }
+        );
+        exec.execute(() -> log.add("second"));
+        MatcherAssert.assertThat(log, Matchers.contains("first", "nested", "second"));
+    }
+
+    @Test
+    void runsNextTaskAfterFailure() {
+        final SerialExecutor exec = new SerialExecutor();
+        final List<String> log = new ArrayList<>(1);
+        exec.execute(
+            () -> {
+                throw new IllegalStateException("Failed task");
+            }
+        );
+        exec.execute(() -> log.add("next"));
+        MatcherAssert.assertThat(log, Matchers.equalTo(Arrays.asList("next")));
+    }
+
+    @Test
+    @Timeout(5)
+    void doesNotRunTasksConcurrently() throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final SerialExecutor exec = new SerialExecutor(pool);
+        final AtomicInteger running = new AtomicInteger();
+        final List<Integer> overlaps = Collections.synchronizedList(new ArrayList<>(0));
+        final int total = 1000;
+        final CountDownLatch done = new CountDownLatch(total);
+        for (int idx = 0; idx < total; ++idx) {
+            pool.execute(
+                () -> exec.execute(
+                    () -> {
+                        final int now = running.incrementAndGet();
+                        if (now > 1) {
+                            overlaps.add(now);
+                        }
+                        running.decrementAndGet();
+                        done.countDown();
+                    }
+                )
+            );
+        }
+        done.await();
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.SECONDS);
+        MatcherAssert.assertThat(overlaps, Matchers.empty());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SizeClassPool}.
+ * @since 1.2
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class SizeClassPoolTest {
+
+    @Test
+    void roundsCapacityToSizeClass() {
+        final ByteBuffer buf = new SizeClassPool(false).acquire(300);
+        MatcherAssert.assertThat("Capacity", buf.capacity(), Matchers.equalTo(512));
+        MatcherAssert.assertThat("Limit", buf.limit(), Matchers.equalTo(300));
+        MatcherAssert.assertThat("Position", buf.position(), Matchers.equalTo(0));
+    }
+
+    @Test
+    void reusesReleasedBuffer() {
+        final ByteBufferPool pool = new SizeClassPool(false);
+        final ByteBuffer buf = pool.acquire(1000);
+        buf.put((byte) 1);
+        pool.release(buf);
+        final ByteBuffer next = pool.acquire(700);
+        MatcherAssert.assertThat("Same buffer", next, Matchers.sameInstance(buf));
+        MatcherAssert.assertThat("Cleared", next.position(), Matchers.equalTo(0));
+    }
+
+    @Test
+    void reusesBufferReleasedByOtherThread() {
+        final ByteBufferPool pool = new SizeClassPool(false, 1024, 1);
+        final ByteBuffer first = pool.acquire(1000);
+        final ByteBuffer second = pool.acquire(1000);
+        CompletableFuture.runAsync(
+            () -> {
+                pool.release(first);
+                pool.release(second);
+            }
+        ).join();
+        MatcherAssert.assertThat(pool.acquire(1000), Matchers.sameInstance(second));
+    }
+
+    @Test
+    void doesNotPoolLargeBuffers() {
+        final ByteBufferPool pool = new SizeClassPool(false, 1024, 16);
+        final ByteBuffer buf = pool.acquire(2000);
+        MatcherAssert.assertThat("Exact capacity", buf.capacity(), Matchers.equalTo(2000));
+        pool.release(buf);
+        MatcherAssert.assertThat(
+            "New buffer", pool.acquire(2000), Matchers.not(Matchers.sameInstance(buf))
+        );
+    }
+
+    @Test
+    void allocatesDirectBuffers() {
+        MatcherAssert.assertThat(
+            new SizeClassPool(true).acquire(10).isDirect(), Matchers.is(true)
+        );
+    }
+}
@@ -41,4 +41,19 @@ final class TokenizerFlatProcTest {
             )
         );
     }
+
+    @Test
+    void splitToSlices() {
+        final Flowable<ByteBuffer> src = Flowable.fromArray(
+            "one\ntw", "o\n\nthree", "\n"
+        ).map(str -> ByteBuffer.wrap(str.getBytes()));
+        final TokenizerFlatProc target = new TokenizerFlatProc("\n", 1, true);
+        src.subscribe(target);
+        final List<String> split = Flowable.fromPublisher(target)
+            .map(buf -> new String(new Remaining(buf).bytes())).toList().blockingGet();
+        MatcherAssert.assertThat(
+            split,
+            Matchers.contains("one", "two", "", "three", "")
+        );
+    }
 }
@@ -59,6 +59,50 @@ public final class RequestLineFromTest {
         );
     }
 
+    @Test
+    void parsesPathAndQuery() {
+        final RequestLineFrom line =
+            new RequestLineFrom("GET /one/t%20wo?foo=bar&baz HTTP/1.1\r\n");
+        MatcherAssert.assertThat(
+            "Decoded path was not parsed",
+            line.path(),
+            Matchers.equalTo("/one/t wo")
+        );
+        MatcherAssert.assertThat(
+            "Raw path was not parsed",
+            line.rawPath(),
+            Matchers.equalTo("/one/t%20wo")
+        );
+        MatcherAssert.assertThat(
+            "Query was not parsed",
+            line.query().get(),
+            Matchers.equalTo("foo=bar&baz")
+        );
+    }
+
+    @Test
+    void parsesEmptyQuery() {
+        MatcherAssert.assertThat(
+            new RequestLineFrom("GET /path HTTP/1.1\r\n").query().isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void memoizesParsedUri() {
+        final RequestLineFrom rqline = new RequestLineFrom("GET /shared/path HTTP/1.1\r\n");
+        MatcherAssert.assertThat(rqline.uri(), Matchers.sameInstance(rqline.uri()));
+    }
+
+    @Test
+    void readsTargetOfInvalidLineLeniently() {
+        final RequestLineFrom rqline = new RequestLineFrom("SURRENDER /wallet/life.txt?q=1\n");
+        MatcherAssert.assertThat(
+            String.join(" ", rqline.methodToken(), rqline.targetPath()),
+            new IsEqual<>("SURRENDER /wallet/life.txt")
+        );
+    }
+
     @Test
     void parsesHttpVersion() {
         MatcherAssert.assertThat(
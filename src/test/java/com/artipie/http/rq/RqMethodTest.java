@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rq;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link RqMethod}.
+ * @since 1.2
+ */
+final class RqMethodTest {
+
+    @ParameterizedTest
+    @EnumSource(RqMethod.class)
+    void findsMethodByName(final RqMethod method) {
+        MatcherAssert.assertThat(
+            new RqMethod.ByName(method.value()).find(),
+            new IsEqual<>(method)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"get", "SURRENDER", "", "GETS"})
+    void doesNotKnowOtherNames(final String name) {
+        MatcherAssert.assertThat(
+            new RqMethod.ByName(name).known(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void looksUpMethodOnce() {
+        MatcherAssert.assertThat(
+            "Known method",
+            new RqMethod.ByName("PUT").lookup().get(),
+            new IsEqual<>(RqMethod.PUT)
+        );
+        MatcherAssert.assertThat(
+            "Unknown method",
+            new RqMethod.ByName("FETCH").lookup().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void throwsExceptionForUnknownName() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new RqMethod.ByName("FETCH").find()
+            ).getMessage(),
+            new IsEqual<>("Unknown method: 'FETCH'")
+        );
+    }
+}
@@ -4,18 +4,26 @@
  */
 package com.artipie.http.rq.multipart;
 
+import com.artipie.ArtipieException;
 import com.artipie.asto.ext.PublisherAs;
+import com.artipie.http.misc.ByteBufferPool;
+import io.reactivex.Flowable;
 import io.reactivex.internal.functions.Functions;
 import io.reactivex.subjects.SingleSubject;
+import io.reactivex.subscribers.TestSubscriber;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -89,4 +97,128 @@ final class MultiPartTest {
             Matchers.equalTo("")
         );
     }
+
+    @Test
+    void spillsBodyAboveMemoryLimit() throws Exception {
+        final SingleSubject<RqMultipart.Part> subj = SingleSubject.create();
+        final MultiPart part = new MultiPart(
+            Completion.FAKE, subj::onSuccess, this.exec, ByteBufferPool.UNPOOLED, 16
+        );
+        final StringBuilder body = new StringBuilder();
+        part.push(ByteBuffer.wrap("Content-Type: text/plain\r\n\r\n".getBytes()));
+        for (int idx = 0; idx < 100; ++idx) {
+            final String chunk = String.format("chunk-%d;", idx);
+            body.append(chunk);
+            part.push(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.US_ASCII)));
+        }
+        part.flush();
+        MatcherAssert.assertThat(
+            new PublisherAs(subj.flatMapPublisher(Functions.identity()))
+                .string(StandardCharsets.US_ASCII)
+                .toCompletableFuture().get(),
+            Matchers.equalTo(body.toString())
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void abortsIncompletePart() {
+        final SingleSubject<RqMultipart.Part> subj = SingleSubject.create();
+        final MultiPart part = new MultiPart(
+            Completion.FAKE, subj::onSuccess, this.exec, ByteBufferPool.UNPOOLED, 4
+        );
+        part.push(ByteBuffer.wrap("Content-Type: text/plain\r\n\r\n".getBytes()));
+        part.push(ByteBuffer.wrap("spilled body".getBytes(StandardCharsets.US_ASCII)));
+        final IllegalStateException err = new IllegalStateException("aborted");
+        part.abort(err);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                ExecutionException.class,
+                () -> new PublisherAs(subj.flatMapPublisher(Functions.identity()))
+                    .string(StandardCharsets.US_ASCII)
+                    .toCompletableFuture().get()
+            ).getCause(),
+            Matchers.is(err)
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void abortsPartAboveSpillLimit() {
+        final SingleSubject<RqMultipart.Part> subj = SingleSubject.create();
+        final TestSubscriber<Object> parts = new TestSubscriber<>();
+        final Completion<Object> completion = new Completion<>(parts);
+        completion.itemStarted();
+        final MultiPart part = new MultiPart(
+            completion, subj::onSuccess, this.exec, ByteBufferPool.UNPOOLED, 4, 8
+        );
+        part.push(ByteBuffer.wrap("Content-Type: text/plain\r\n\r\n".getBytes()));
+        part.push(ByteBuffer.wrap("unread ".getBytes(StandardCharsets.US_ASCII)));
+        part.push(ByteBuffer.wrap("body data".getBytes(StandardCharsets.US_ASCII)));
+        part.flush();
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                ExecutionException.class,
+                () -> new PublisherAs(subj.flatMapPublisher(Functions.identity()))
+                    .string(StandardCharsets.US_ASCII)
+                    .toCompletableFuture().get()
+            ).getCause(),
+            Matchers.instanceOf(ArtipieException.class)
+        );
+        completion.upstreamCompleted();
+        parts.assertComplete();
+    }
+
+    @Test
+    void releasesPooledChunksAfterDelivery() {
+        final AtomicInteger used = new AtomicInteger();
+        final ByteBufferPool chunks = new ByteBufferPool() {
+            @Override
+            public ByteBuffer acquire(final int size) {
+                used.incrementAndGet();
+                return ByteBuffer.allocate(size);
+            }
+
+            @Override
+            public void release(final ByteBuffer buf) {
+                used.decrementAndGet();
+            }
+        };
+        final SingleSubject<RqMultipart.Part> subj = SingleSubject.create();
+        final MultiPart part = new MultiPart(
+            Completion.FAKE, subj::onSuccess, this.exec, ByteBufferPool.UNPOOLED, 16,
+            MultiPart.SPILL_DEFAULT, chunks
+        );
+        final StringBuilder body = new StringBuilder();
+        part.push(ByteBuffer.wrap("Content-Type: text/plain\r\n\r\n".getBytes()));
+        for (int idx = 0; idx < 10; ++idx) {
+            final String chunk = String.format("pooled-%d;", idx);
+            body.append(chunk);
+            part.push(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.US_ASCII)));
+        }
+        part.flush();
+        MatcherAssert.assertThat(
+            "Body was read",
+            Flowable.fromPublisher(subj.blockingGet())
+                .map(buf -> StandardCharsets.US_ASCII.decode(buf).toString())
+                .reduce("", String::concat)
+                .blockingGet(),
+            Matchers.equalTo(body.toString())
+        );
+        MatcherAssert.assertThat("Chunks were released", used.get(), Matchers.equalTo(0));
+    }
+
+    @Test
+    @Timeout(1)
+    void doesNotAbortCompletedPart() throws Exception {
+        final SingleSubject<RqMultipart.Part> subj = SingleSubject.create();
+        final MultiPart part = new MultiPart(Completion.FAKE, subj::onSuccess, this.exec);
+        part.push(ByteBuffer.wrap("Content-Type: text/plain\r\n\r\n".getBytes()));
+        part.push(ByteBuffer.wrap("complete".getBytes(StandardCharsets.US_ASCII)));
+        part.flush();
+        final CompletableFuture<String> body = new PublisherAs(subj.blockingGet())
+            .string(StandardCharsets.US_ASCII).toCompletableFuture();
+        part.abort(new IllegalStateException("late"));
+        MatcherAssert.assertThat(body.get(), Matchers.equalTo("complete"));
+    }
 }
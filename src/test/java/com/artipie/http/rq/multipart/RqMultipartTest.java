@@ -4,6 +4,7 @@
  */
 package com.artipie.http.rq.multipart;
 
+import com.artipie.ArtipieException;
 import com.artipie.asto.Content;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.asto.test.TestResource;
@@ -12,12 +13,15 @@ import com.artipie.http.headers.ContentType;
 import com.artipie.http.rq.RqHeaders;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.reactivex.processors.UnicastProcessor;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.reactivestreams.Publisher;
@@ -273,4 +277,69 @@ final class RqMultipartTest {
         // @checkstyle MagicNumberCheck (1 line)
         MatcherAssert.assertThat(size, Matchers.equalTo(4163));
     }
+
+    @Test
+    @Timeout(1)
+    void failsPartOnUpstreamError() throws Exception {
+        final UnicastProcessor<ByteBuffer> upstream = UnicastProcessor.create();
+        upstream.onNext(RqMultipartTest.incomplete());
+        final CompletableFuture<RqMultipart.Part> first = new CompletableFuture<>();
+        Flowable.fromPublisher(
+            new RqMultipart(new ContentType("multipart/mixed; boundary=\"123\""), upstream)
+                .parts()
+        ).onErrorResumeNext(Flowable.empty()).subscribe(first::complete);
+        final CompletableFuture<String> body = new CompletableFuture<>();
+        RqMultipartTest.read(first.get(), body);
+        upstream.onError(new IllegalStateException("upstream"));
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(ExecutionException.class, body::get).getCause(),
+            Matchers.instanceOf(ArtipieException.class)
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void failsPartOnPartsCancel() {
+        final CompletableFuture<String> body = new CompletableFuture<>();
+        Flowable.fromPublisher(
+            new RqMultipart(
+                new ContentType("multipart/mixed; boundary=\"123\""),
+                Flowable.concat(
+                    Flowable.just(RqMultipartTest.incomplete()), Flowable.never()
+                )
+            ).parts()
+        ).firstElement().subscribe(part -> RqMultipartTest.read(part, body));
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(ExecutionException.class, body::get).getCause(),
+            Matchers.instanceOf(ArtipieException.class)
+        );
+    }
+
+    /**
+     * Multipart request chunk with incomplete part.
+     * @return Chunk
+     */
+    private static ByteBuffer incomplete() {
+        return ByteBuffer.wrap(
+            String.join("\r\n", "--123", "Foo: bar", "", "incomplete body")
+                .getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    /**
+     * Read part body to future.
+     * @param part Part
+     * @param body Body future
+     */
+    private static void read(final RqMultipart.Part part, final CompletableFuture<String> body) {
+        new PublisherAs(part).string(StandardCharsets.US_ASCII).whenComplete(
+            (str, err) -> {
+                if (err == null) {
+                    body.complete(str);
+                } else {
+                    body.completeExceptionally(err);
+                }
+            }
+        );
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rq.multipart;
+
+import com.artipie.http.misc.ByteBufferPool;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SpillBuffer}.
+ * @since 1.2
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class SpillBufferTest {
+
+    @Test
+    void keepsDataInMemoryBelowLimit() {
+        try (SpillBuffer buf = new SpillBuffer(4, 8, ByteBufferPool.UNPOOLED)) {
+            buf.write(SpillBufferTest.bytes("12345678"));
+            MatcherAssert.assertThat("Spilled", buf.spilled(), Matchers.is(false));
+            MatcherAssert.assertThat(
+                "Data", SpillBufferTest.read(buf), Matchers.equalTo("12345678")
+            );
+        }
+    }
+
+    @Test
+    void readsSpilledDataInOrder() {
+        try (SpillBuffer buf = new SpillBuffer(4, 8, ByteBufferPool.UNPOOLED)) {
+            buf.write(SpillBufferTest.bytes("one,"));
+            buf.write(SpillBufferTest.bytes("two,"));
+            buf.write(SpillBufferTest.bytes("three,"));
+            buf.write(SpillBufferTest.bytes("four"));
+            MatcherAssert.assertThat("Spilled", buf.spilled(), Matchers.is(true));
+            MatcherAssert.assertThat("Size", buf.size(), Matchers.equalTo(18L));
+            MatcherAssert.assertThat(
+                "Data", SpillBufferTest.read(buf), Matchers.equalTo("one,two,three,four")
+            );
+            MatcherAssert.assertThat("Empty", buf.empty(), Matchers.is(true));
+        }
+    }
+
+    @Test
+    void writesToMemoryAfterFileIsDrained() {
+        try (SpillBuffer buf = new SpillBuffer(4, 4, ByteBufferPool.UNPOOLED)) {
+            buf.write(SpillBufferTest.bytes("first"));
+            MatcherAssert.assertThat("First", SpillBufferTest.read(buf), Matchers.equalTo("first"));
+            buf.write(SpillBufferTest.bytes("next"));
+            MatcherAssert.assertThat("Spilled", buf.spilled(), Matchers.is(false));
+            MatcherAssert.assertThat("Next", SpillBufferTest.read(buf), Matchers.equalTo("next"));
+        }
+    }
+
+    private static ByteBuffer bytes(final String str) {
+        return ByteBuffer.wrap(str.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String read(final SpillBuffer buf) {
+        final StringBuilder res = new StringBuilder();
+        final ByteBuffer dst = ByteBuffer.allocate(3);
+        while (buf.read(dst) >= 0) {
+            dst.flip();
+            res.append(StandardCharsets.US_ASCII.decode(dst));
+            dst.clear();
+        }
+        return res.toString();
+    }
+}
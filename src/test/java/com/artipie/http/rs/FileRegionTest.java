@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rs;
+
+import com.artipie.asto.Content;
+import com.artipie.http.hm.RsHasBody;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link FileRegion}.
+ * @since 1.2
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class FileRegionTest {
+
+    @Test
+    void publishesWholeFile(@TempDir final Path tmp) throws Exception {
+        final byte[] data = new byte[20_000];
+        for (int pos = 0; pos < data.length; ++pos) {
+            data[pos] = (byte) pos;
+        }
+        final Path file = Files.write(tmp.resolve("data.bin"), data);
+        MatcherAssert.assertThat(
+            new RsWithBody(new FileRegion(file, data.length)),
+            new RsHasBody(data)
+        );
+    }
+
+    @Test
+    void publishesRegionOfFile(@TempDir final Path tmp) throws Exception {
+        final Path file = Files.write(
+            tmp.resolve("text.txt"), "hello world".getBytes(StandardCharsets.UTF_8)
+        );
+        final Content region = new FileRegion(file, 6, 3);
+        MatcherAssert.assertThat(
+            "Has region size",
+            region.size(),
+            new IsEqual<>(Optional.of(3L))
+        );
+        MatcherAssert.assertThat(
+            "Publishes region bytes",
+            new RsWithBody(region),
+            new RsHasBody("wor", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void transfersRegionToChannel(@TempDir final Path tmp) throws Exception {
+        final Path file = Files.write(
+            tmp.resolve("file.txt"), "abcdefgh".getBytes(StandardCharsets.UTF_8)
+        );
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            "Transfers region size",
+            new FileRegion(file, 2, 4).transferTo(Channels.newChannel(out)),
+            new IsEqual<>(4L)
+        );
+        MatcherAssert.assertThat(
+            "Transfers region bytes",
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>("cdef")
+        );
+    }
+
+    @Test
+    void failsIfFileWasReplaced(@TempDir final Path tmp) throws Exception {
+        final Path file = Files.write(
+            tmp.resolve("replaced.txt"), "old".getBytes(StandardCharsets.UTF_8)
+        );
+        final FileRegion region = new FileRegion(file, 3);
+        Files.write(file, "new content".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> region.transferTo(Channels.newChannel(new ByteArrayOutputStream()))
+        );
+    }
+}
@@ -58,4 +58,53 @@ public class RsWithHeadersTest {
             new RsHasHeaders(new Header(name, two), new Header("Content-Length", "0"))
         );
     }
+
+    @Test
+    void overridesSeveralHeadersIgnoringCase() {
+        MatcherAssert.assertThat(
+            new RsWithHeaders(
+                new RsWithHeaders(
+                    new RsWithStatus(RsStatus.OK),
+                    new Headers.From(
+                        new Header("content-type", "text/plain"),
+                        new Header("X-Keep", "keep"),
+                        new Header("x-header", "old")
+                    )
+                ),
+                new Headers.From(
+                    new Header("Content-Type", "application/json"),
+                    new Header("X-Header", "new")
+                ),
+                true
+            ),
+            new RsHasHeaders(
+                new Header("Content-Type", "application/json"),
+                new Header("X-Header", "new"),
+                new Header("X-Keep", "keep")
+            )
+        );
+    }
+
+    @Test
+    void keepsRepeatedHeadersWhichAreNotOverridden() {
+        MatcherAssert.assertThat(
+            new RsWithHeaders(
+                new RsWithHeaders(
+                    new RsWithStatus(RsStatus.OK),
+                    new Headers.From(
+                        new Header("Set-Cookie", "one=1"),
+                        new Header("Set-Cookie", "two=2"),
+                        new Header("Content-Type", "text/plain")
+                    )
+                ),
+                new Headers.From("Content-Type", "application/json"),
+                true
+            ),
+            new RsHasHeaders(
+                new Header("Content-Type", "application/json"),
+                new Header("Set-Cookie", "one=1"),
+                new Header("Set-Cookie", "two=2")
+            )
+        );
+    }
 }
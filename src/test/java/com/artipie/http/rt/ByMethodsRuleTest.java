@@ -7,6 +7,7 @@ package com.artipie.http.rt;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import java.util.Collections;
+import java.util.EnumSet;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,17 @@ final class ByMethodsRuleTest {
         );
     }
 
+    @Test
+    void matchesMethodFromSet() {
+        MatcherAssert.assertThat(
+            new ByMethodsRule(EnumSet.of(RqMethod.HEAD, RqMethod.PUT)).apply(
+                new RequestLine(RqMethod.PUT, "/").toString(),
+                Collections.emptyList()
+            ),
+            Matchers.is(true)
+        );
+    }
+
     @Test
     void doesntMatchUnexpectedMethod() {
         MatcherAssert.assertThat(
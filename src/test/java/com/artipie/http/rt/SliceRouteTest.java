@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithStatus;
+import com.artipie.http.slice.SliceSimple;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.cactoos.map.MapEntry;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link SliceRoute}.
+ * @since 1.2
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class SliceRouteTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "GET,/maven/com/artipie/http.jar,200",
+        "PUT,/maven/com/artipie/http.jar,201",
+        "DELETE,/maven/com/artipie/http.jar,405",
+        "GET,/npm/package,202",
+        "GET,/npm,202",
+        "GET,/npm-proxy/package,204",
+        "GET,/exact,409",
+        "GET,/exact/more,404",
+        "GET,/any/other,404",
+        "POST,/,405"
+    })
+    void routesToFirstMatchedPath(final String method, final String path, final String code) {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtRulePath(
+                    new RtRule.All(
+                        new RtRule.ByPath("/maven/.*"),
+                        ByMethodsRule.Standard.GET
+                    ),
+                    new SliceSimple(new RsWithStatus(RsStatus.OK))
+                ),
+                new RtRulePath(
+                    new RtRule.All(
+                        new RtRule.ByPath(Pattern.compile("^/maven/.+")),
+                        new ByMethodsRule(RqMethod.PUT)
+                    ),
+                    new SliceSimple(new RsWithStatus(RsStatus.CREATED))
+                ),
+                new RtRulePath(
+                    new RtRule.ByPath("/npm(/.*)?"),
+                    new SliceSimple(new RsWithStatus(RsStatus.ACCEPTED))
+                ),
+                new RtRulePath(
+                    new RtRule.ByPath("/pypi/.*|/npm-.*"),
+                    new SliceSimple(new RsWithStatus(RsStatus.NO_CONTENT))
+                ),
+                new RtRulePath(
+                    new RtRule.ByPath("^/exact$"),
+                    new SliceSimple(new RsWithStatus(RsStatus.CONFLICT))
+                ),
+                new RtRulePath(
+                    ByMethodsRule.Standard.ALL_WRITE,
+                    new SliceSimple(new RsWithStatus(RsStatus.METHOD_NOT_ALLOWED))
+                )
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(new RsStatus.ByCode(code).find()),
+                new RequestLine(method, path)
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "/api/docker/image,yes,200",
+        "/api/docker/image,no,404",
+        "/api/docker,yes,202"
+    })
+    void checksOtherRulesOfRoute(final String path, final String header, final String code) {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtRulePath(
+                    new RtRule.All(
+                        new RtRule.ByPath("/api/docker/.*"),
+                        new RtRule.ByHeader("X-Test", Pattern.compile("yes"))
+                    ),
+                    new SliceSimple(new RsWithStatus(RsStatus.OK))
+                ),
+                new RtRulePath(
+                    new RtRule.Any(
+                        new RtRule.ByPath("/api/docker"),
+                        new RtRule.ByPath("/api/maven")
+                    ),
+                    new SliceSimple(new RsWithStatus(RsStatus.ACCEPTED))
+                )
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(new RsStatus.ByCode(code).find()),
+                new RequestLine(RqMethod.GET, path),
+                new Headers.From(new MapEntry<>("X-Test", header)),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "/repo/file.txt,yes,200",
+        "/repo/file.txt,no,404"
+    })
+    void keepsOverriddenAllRule(final String path, final String header, final String code) {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtRulePath(
+                    new RtRule.All(new RtRule.ByPath("/repo/.*")) {
+                        @Override
+                        public boolean apply(final String line,
+                            final Iterable<Map.Entry<String, String>> headers) {
+                            return super.apply(line, headers)
+                                && new RtRule.ByHeader("X-Test", Pattern.compile("yes"))
+                                .apply(line, headers);
+                        }
+                    },
+                    new SliceSimple(new RsWithStatus(RsStatus.OK))
+                )
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(new RsStatus.ByCode(code).find()),
+                new RequestLine(RqMethod.GET, path),
+                new Headers.From(new MapEntry<>("X-Test", header)),
+                Content.EMPTY
+            )
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.servlet;
+
+import com.artipie.http.Headers;
+import com.artipie.http.rs.FileRegion;
+import com.artipie.http.rs.RsStatus;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ServletConnection}.
+ * @since 1.2
+ */
+final class ServletConnectionTest {
+
+    @Test
+    void transfersFileRegionOffCallerThread(@TempDir final Path tmp) throws Exception {
+        final Path file = Files.write(
+            tmp.resolve("region.txt"), "file region".getBytes(StandardCharsets.UTF_8)
+        );
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final AtomicReference<String> thread = new AtomicReference<>();
+        new ServletConnection(ServletConnectionTest.response(out, thread)).accept(
+            RsStatus.OK, Headers.EMPTY, new FileRegion(file, 5, 6)
+        ).toCompletableFuture().get();
+        MatcherAssert.assertThat(
+            "Transfers region",
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("region")
+        );
+        MatcherAssert.assertThat(
+            "Transfers on dedicated thread",
+            thread.get(),
+            Matchers.equalTo("artipie-file-region")
+        );
+    }
+
+    /**
+     * Servlet response which writes body to output stream.
+     * @param out Output stream
+     * @param thread Name of the thread which writes the body
+     * @return Servlet response
+     */
+    private static HttpServletResponse response(final ByteArrayOutputStream out,
+        final AtomicReference<String> thread) {
+        final ServletOutputStream stream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener listener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(final int value) {
+                thread.set(Thread.currentThread().getName());
+                out.write(value);
+            }
+        };
+        return (HttpServletResponse) Proxy.newProxyInstance(
+            HttpServletResponse.class.getClassLoader(),
+            new Class<?>[]{HttpServletResponse.class},
+            (proxy, method, args) -> {
+                final Object res;
+                if ("getOutputStream".equals(method.getName())) {
+                    res = stream;
+                } else {
+                    res = null;
+                }
+                return res;
+            }
+        );
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link AcceptEncoding}.
+ * @since 1.2
+ */
+final class AcceptEncodingTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = '|',
+        value = {
+            "gzip|gzip",
+            "deflate, gzip|gzip",
+            "gzip;q=0.5, deflate|deflate",
+            "GZIP;Q=0.9, deflate;q=0.8|gzip",
+            "x-gzip|gzip",
+            "*|gzip",
+            "*;q=0.5, gzip;q=0|deflate",
+            "gzip;q=0.5, identity|identity",
+            "gzip;q=0, deflate;q=0|identity",
+            "br|identity",
+            "''|identity",
+            "gzip;q=abc|identity"
+        }
+    )
+    void selectsCoding(final String header, final String expected) {
+        MatcherAssert.assertThat(
+            new AcceptEncoding(Collections.singletonList(header)).select(
+                Arrays.asList(new ContentCoding.Gzip(), new ContentCoding.Deflate())
+            ).map(ContentCoding::name).orElse("identity"),
+            new IsEqual<>(expected)
+        );
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link ByteRange}.
+ * @since 1.2
+ */
+final class ByteRangeTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = '|',
+        value = {
+            "bytes=0-9|0-9",
+            "bytes=5-|5-99",
+            "bytes=-10|90-99",
+            "bytes=-200|0-99",
+            "bytes=90-200|90-99",
+            "Bytes= 0-4 , 10-14|0-4,10-14",
+            "bytes=10-14,0-4|0-4,10-14",
+            "bytes=0-4,5-9,7-20|0-20",
+            "bytes=0-4,,200-300|0-4",
+            "bytes=100-,-0|''"
+        }
+    )
+    void parsesRanges(final String header, final String expected) {
+        MatcherAssert.assertThat(
+            ByteRange.parse(header, 100).get().stream()
+                .map(ByteRange::toString)
+                .collect(Collectors.joining(",")),
+            new IsEqual<>(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"items=0-9", "bytes=", "bytes=a-b", "bytes=9-0", "bytes=-", "bytes=5"})
+    void ignoresInvalidHeader(final String header) {
+        MatcherAssert.assertThat(
+            ByteRange.parse(header, 100).isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+}
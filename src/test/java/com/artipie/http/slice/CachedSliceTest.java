@@ -0,0 +1,221 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsFull;
+import com.artipie.http.rs.RsStatus;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CachedSlice}.
+ * @since 1.2
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CachedSliceTest {
+
+    /**
+     * Number of origin calls.
+     */
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void servesCachedResponse() {
+        final Slice slice = new CachedSlice(
+            this.origin(Headers.EMPTY), new ResponseCache(1024, Duration.ofMinutes(1))
+        );
+        MatcherAssert.assertThat(
+            "First body",
+            CachedSliceTest.body(slice, RqMethod.GET, "/index.json", Headers.EMPTY),
+            Matchers.equalTo("/index.json")
+        );
+        MatcherAssert.assertThat(
+            "Cached body",
+            CachedSliceTest.body(slice, RqMethod.GET, "/index.json", Headers.EMPTY),
+            Matchers.equalTo("/index.json")
+        );
+        MatcherAssert.assertThat("Origin calls", this.calls.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    void variesByRequestHeaders() {
+        final Slice slice = new CachedSlice(
+            this.origin(Headers.EMPTY), new ResponseCache(1024, Duration.ofMinutes(1))
+        );
+        CachedSliceTest.body(
+            slice, RqMethod.GET, "/a", new Headers.From(AcceptEncoding.NAME, "gzip")
+        );
+        CachedSliceTest.body(slice, RqMethod.GET, "/a", Headers.EMPTY);
+        CachedSliceTest.body(
+            slice, RqMethod.GET, "/a", new Headers.From(AcceptEncoding.NAME, "gzip")
+        );
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final ResponseCache cache = new ResponseCache(30, 30, Duration.ofMinutes(1));
+        final Slice slice = new CachedSlice(this.origin(Headers.EMPTY), cache);
+        CachedSliceTest.body(slice, RqMethod.GET, "/first", Headers.EMPTY);
+        CachedSliceTest.body(slice, RqMethod.GET, "/second", Headers.EMPTY);
+        CachedSliceTest.body(slice, RqMethod.GET, "/first", Headers.EMPTY);
+        MatcherAssert.assertThat("Origin calls", this.calls.get(), Matchers.equalTo(3));
+        MatcherAssert.assertThat("Cache weight", cache.weight(), Matchers.equalTo(21L));
+    }
+
+    @Test
+    void doesNotCacheLargeBody() {
+        final Slice slice = new CachedSlice(
+            this.origin(Headers.EMPTY), new ResponseCache(1024, 4, Duration.ofMinutes(1))
+        );
+        CachedSliceTest.body(slice, RqMethod.GET, "/large", Headers.EMPTY);
+        MatcherAssert.assertThat(
+            CachedSliceTest.body(slice, RqMethod.GET, "/large", Headers.EMPTY),
+            Matchers.equalTo("/large")
+        );
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void expiresEntries() {
+        final Slice slice = new CachedSlice(
+            this.origin(Headers.EMPTY), new ResponseCache(1024, Duration.ZERO)
+        );
+        CachedSliceTest.body(slice, RqMethod.GET, "/ttl", Headers.EMPTY);
+        CachedSliceTest.body(slice, RqMethod.GET, "/ttl", Headers.EMPTY);
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void doesNotCacheNoStore() {
+        final Slice slice = new CachedSlice(
+            this.origin(new Headers.From("Cache-Control", "no-store")),
+            new ResponseCache(1024, Duration.ofMinutes(1))
+        );
+        CachedSliceTest.body(slice, RqMethod.GET, "/private", Headers.EMPTY);
+        CachedSliceTest.body(slice, RqMethod.GET, "/private", Headers.EMPTY);
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void invalidatesOnWrite() {
+        final Slice slice = new CachedSlice(
+            this.origin(new Headers.From(new Header("Vary", "Accept-Encoding"))),
+            new ResponseCache(1024, Duration.ofMinutes(1))
+        );
+        CachedSliceTest.body(slice, RqMethod.GET, "/file", Headers.EMPTY);
+        CachedSliceTest.body(slice, RqMethod.PUT, "/file", Headers.EMPTY);
+        CachedSliceTest.body(slice, RqMethod.GET, "/file", Headers.EMPTY);
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(3));
+    }
+
+    @Test
+    void invalidatesEntriesWithQuery() {
+        final Slice slice = new CachedSlice(
+            this.origin(Headers.EMPTY), new ResponseCache(1024, Duration.ofMinutes(1))
+        );
+        CachedSliceTest.body(slice, RqMethod.GET, "/query?one=1", Headers.EMPTY);
+        CachedSliceTest.body(slice, RqMethod.DELETE, "/query", Headers.EMPTY);
+        CachedSliceTest.body(slice, RqMethod.GET, "/query?one=1", Headers.EMPTY);
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(3));
+    }
+
+    @Test
+    void doesNotCacheMissStartedBeforeWrite() {
+        final Slice slice = new CachedSlice(
+            this.origin(Headers.EMPTY), new ResponseCache(1024, Duration.ofMinutes(1))
+        );
+        final Response stale = slice.response(
+            new RequestLine(RqMethod.GET, "/race").toString(), Headers.EMPTY, Content.EMPTY
+        );
+        CachedSliceTest.body(slice, RqMethod.PUT, "/race", Headers.EMPTY);
+        stale.send(
+            (status, rsheaders, body) -> new PublisherAs(body).bytes().thenAccept(bytes -> { })
+        ).toCompletableFuture().join();
+        CachedSliceTest.body(slice, RqMethod.GET, "/race", Headers.EMPTY);
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(3));
+    }
+
+    @Test
+    void separatesNamespacesOfSharedCache() {
+        final ResponseCache cache = new ResponseCache(1024, Duration.ofMinutes(1));
+        final Slice first = new CachedSlice(this.origin(Headers.EMPTY), cache);
+        final Slice second = new CachedSlice(
+            (line, rqheaders, body) -> new RsFull(
+                RsStatus.OK, Headers.EMPTY,
+                new Content.From("second".getBytes(StandardCharsets.UTF_8))
+            ),
+            cache
+        );
+        CachedSliceTest.body(first, RqMethod.GET, "/meta.xml", Headers.EMPTY);
+        MatcherAssert.assertThat(
+            CachedSliceTest.body(second, RqMethod.GET, "/meta.xml", Headers.EMPTY),
+            Matchers.equalTo("second")
+        );
+    }
+
+    @Test
+    void sharesEntriesOfSameNamespace() {
+        final ResponseCache cache = new ResponseCache(1024, Duration.ofMinutes(1));
+        final Slice first = new CachedSlice(
+            this.origin(Headers.EMPTY), cache, "repo", Collections.emptyList()
+        );
+        final Slice second = new CachedSlice(
+            this.origin(Headers.EMPTY), cache, "repo", Collections.emptyList()
+        );
+        CachedSliceTest.body(first, RqMethod.GET, "/shared.xml", Headers.EMPTY);
+        CachedSliceTest.body(second, RqMethod.GET, "/shared.xml", Headers.EMPTY);
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Origin slice which responds with request path and counts calls.
+     * @param headers Response headers
+     * @return Slice
+     */
+    private Slice origin(final Headers headers) {
+        return (line, rqheaders, body) -> {
+            this.calls.incrementAndGet();
+            final String path = line.split(" ")[1];
+            return new RsFull(
+                RsStatus.OK, headers, new Content.From(path.getBytes(StandardCharsets.UTF_8))
+            );
+        };
+    }
+
+    /**
+     * Read response body.
+     * @param slice Slice
+     * @param method Request method
+     * @param path Request path
+     * @param headers Request headers
+     * @return Body string
+     */
+    private static String body(final Slice slice, final RqMethod method, final String path,
+        final Headers headers) {
+        final AtomicReference<String> res = new AtomicReference<>();
+        slice.response(new RequestLine(method, path).toString(), headers, Content.EMPTY).send(
+            (status, rsheaders, body) -> new PublisherAs(body).asciiString()
+                .thenAccept(res::set)
+        ).toCompletableFuture().join();
+        return res.get();
+    }
+}
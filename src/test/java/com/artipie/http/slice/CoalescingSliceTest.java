@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.http.Headers;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+
+/**
+ * Test for {@link CoalescingSlice}.
+ * @since 1.2
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CoalescingSliceTest {
+
+    /**
+     * Number of origin calls.
+     */
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * Origin response gate.
+     */
+    private final CompletableFuture<Void> gate = new CompletableFuture<>();
+
+    @Test
+    void coalescesConcurrentRequests() {
+        final Slice slice = new CoalescingSlice(this.origin());
+        final CompletableFuture<String> first = CoalescingSliceTest.body(
+            slice, RqMethod.GET, Headers.EMPTY
+        );
+        final CompletableFuture<String> second = CoalescingSliceTest.body(
+            slice, RqMethod.GET, Headers.EMPTY
+        );
+        this.gate.complete(null);
+        MatcherAssert.assertThat("First body", first.join(), Matchers.equalTo("data"));
+        MatcherAssert.assertThat("Second body", second.join(), Matchers.equalTo("data"));
+        MatcherAssert.assertThat("Origin calls", this.calls.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    void sendsNewRequestAfterResponse() {
+        this.gate.complete(null);
+        final Slice slice = new CoalescingSlice(this.origin());
+        CoalescingSliceTest.body(slice, RqMethod.GET, Headers.EMPTY).join();
+        CoalescingSliceTest.body(slice, RqMethod.GET, Headers.EMPTY).join();
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void distinguishesRequestsByHeaders() {
+        final Slice slice = new CoalescingSlice(this.origin());
+        final CompletableFuture<String> first = CoalescingSliceTest.body(
+            slice, RqMethod.GET, new Headers.From(AcceptEncoding.NAME, "gzip")
+        );
+        final CompletableFuture<String> second = CoalescingSliceTest.body(
+            slice, RqMethod.GET, Headers.EMPTY
+        );
+        this.gate.complete(null);
+        CompletableFuture.allOf(first, second).join();
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void distinguishesRequestsByCredentials() {
+        final Slice slice = new CoalescingSlice(this.origin());
+        final CompletableFuture<String> first = CoalescingSliceTest.body(
+            slice, RqMethod.GET, new Headers.From("Authorization", "Basic YWxpY2U6cHdk")
+        );
+        final CompletableFuture<String> second = CoalescingSliceTest.body(
+            slice, RqMethod.GET, Headers.EMPTY
+        );
+        this.gate.complete(null);
+        CompletableFuture.allOf(first, second).join();
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void doesNotCoalesceUploads() {
+        final Slice slice = new CoalescingSlice(this.origin());
+        final CompletableFuture<String> first = CoalescingSliceTest.body(
+            slice, RqMethod.PUT, Headers.EMPTY
+        );
+        final CompletableFuture<String> second = CoalescingSliceTest.body(
+            slice, RqMethod.PUT, Headers.EMPTY
+        );
+        this.gate.complete(null);
+        CompletableFuture.allOf(first, second).join();
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void keepsBodyAfterAcceptCompletes() {
+        this.gate.complete(null);
+        final AtomicReference<Publisher<ByteBuffer>> rsbody = new AtomicReference<>();
+        new CoalescingSlice(this.origin()).response(
+            new RequestLine(RqMethod.GET, "/artifact.jar").toString(),
+            Headers.EMPTY, Content.EMPTY
+        ).send(
+            (status, rsheaders, body) -> {
+                rsbody.set(body);
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new PublisherAs(rsbody.get()).asciiString().toCompletableFuture().join(),
+            Matchers.equalTo("data")
+        );
+    }
+
+    /**
+     * Origin slice which responds when the gate is open.
+     * @return Slice
+     */
+    private Slice origin() {
+        return (line, headers, body) -> {
+            this.calls.incrementAndGet();
+            return connection -> this.gate.thenCompose(
+                nothing -> connection.accept(
+                    RsStatus.OK, Headers.EMPTY,
+                    new Content.From("data".getBytes(StandardCharsets.UTF_8))
+                )
+            );
+        };
+    }
+
+    /**
+     * Send request and read response body.
+     * @param slice Slice
+     * @param method Request method
+     * @param headers Request headers
+     * @return Body future
+     */
+    private static CompletableFuture<String> body(final Slice slice, final RqMethod method,
+        final Headers headers) {
+        final CompletableFuture<String> res = new CompletableFuture<>();
+        slice.response(
+            new RequestLine(method, "/artifact.jar").toString(), headers, Content.EMPTY
+        ).send(
+            (status, rsheaders, body) -> new PublisherAs(body).asciiString()
+                .thenAccept(res::complete)
+        );
+        return res;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import java.nio.ByteBuffer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link FanOut}.
+ * @since 1.2
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class FanOutTest {
+
+    @Test
+    void limitsReadAheadBySlowestSlot() {
+        final FanOut fanout = new FanOut(4096);
+        final FanOut.Slot fast = fanout.slot().get();
+        final FanOut.Slot slow = fanout.slot().get();
+        fanout.connect(FanOutTest.body(100));
+        final TestSubscriber<ByteBuffer> first = new TestSubscriber<>();
+        final TestSubscriber<ByteBuffer> second = new TestSubscriber<>(0L);
+        fast.subscribe(first);
+        slow.subscribe(second);
+        MatcherAssert.assertThat("Read ahead", first.valueCount(), Matchers.equalTo(4));
+        second.requestMore(Long.MAX_VALUE);
+        first.assertValueCount(100).assertComplete();
+        second.assertValueCount(100).assertComplete();
+    }
+
+    @Test
+    void doesNotWaitForReleasedSlot() {
+        final FanOut fanout = new FanOut(1024);
+        final FanOut.Slot slot = fanout.slot().get();
+        fanout.slot().get().release();
+        fanout.connect(FanOutTest.body(10));
+        final TestSubscriber<ByteBuffer> sub = new TestSubscriber<>();
+        slot.subscribe(sub);
+        sub.assertValueCount(10).assertComplete();
+    }
+
+    @Test
+    void closesRegistrationAfterDroppingBuffers() {
+        final FanOut fanout = new FanOut(1024);
+        final FanOut.Slot slot = fanout.slot().get();
+        fanout.connect(FanOutTest.body(3));
+        slot.subscribe(new TestSubscriber<>());
+        MatcherAssert.assertThat(fanout.slot().isPresent(), Matchers.is(false));
+    }
+
+    @Test
+    void failsInvalidRequestWithoutHoldingBuffer() {
+        final FanOut fanout = new FanOut(1024);
+        final FanOut.Slot invalid = fanout.slot().get();
+        final FanOut.Slot slot = fanout.slot().get();
+        fanout.connect(FanOutTest.body(10));
+        final TestSubscriber<ByteBuffer> failed = new TestSubscriber<>(0L);
+        invalid.subscribe(failed);
+        invalid.request(0);
+        final TestSubscriber<ByteBuffer> sub = new TestSubscriber<>();
+        slot.subscribe(sub);
+        failed.assertNoValues().assertError(IllegalArgumentException.class);
+        sub.assertValueCount(10).assertComplete();
+    }
+
+    /**
+     * Body of 1 KB chunks.
+     * @param count Number of chunks
+     * @return Body
+     */
+    private static Flowable<ByteBuffer> body(final int count) {
+        return Flowable.range(0, count).map(idx -> ByteBuffer.allocate(1024));
+    }
+}
@@ -5,9 +5,10 @@
 package com.artipie.http.slice;
 
 import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
 import com.artipie.http.Headers;
-import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.Header;
+import com.artipie.http.hm.IsHeader;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
@@ -16,12 +17,20 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsFull;
 import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -49,10 +58,12 @@ class GzipSliceTest {
                     new RsHasHeaders(
                         new Headers.From(
                             new Header("Content-encoding", "gzip"),
-                            hdr,
-                            new ContentLength(13)
+                            hdr
                         )
                     ),
+                    Matchers.not(
+                        new RsHasHeaders(new IsHeader("Content-Length", Matchers.any(String.class)))
+                    ),
                     new RsHasBody(GzipSliceTest.gzip(data))
                 ),
                 new RequestLine(RqMethod.GET, "/any")
@@ -60,6 +71,36 @@ class GzipSliceTest {
         );
     }
 
+    @Test
+    void compressesLargeBodyInChunks() throws IOException {
+        final byte[] data = new byte[1024 * 1024];
+        new Random(42).nextBytes(data);
+        final AtomicReference<byte[]> body = new AtomicReference<>();
+        new GzipSlice(
+            new SliceSimple(
+                new RsWithBody(
+                    Flowable.range(0, 256).map(
+                        idx -> ByteBuffer.wrap(data, idx * 4096, 4096).slice()
+                    )
+                )
+            )
+        ).response(
+            new RequestLine(RqMethod.GET, "/large").toString(), Headers.EMPTY, Flowable.empty()
+        ).send(
+            (status, headers, pub) -> new PublisherAs(pub).bytes().thenAccept(body::set)
+        ).toCompletableFuture().join();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream gzis = new GZIPInputStream(new ByteArrayInputStream(body.get()))) {
+            final byte[] buf = new byte[8192];
+            int len = gzis.read(buf);
+            while (len >= 0) {
+                out.write(buf, 0, len);
+                len = gzis.read(buf);
+            }
+        }
+        MatcherAssert.assertThat(out.toByteArray(), new IsEqual<>(data));
+    }
+
     static byte[] gzip(final byte[] data) throws IOException {
         final ByteArrayOutputStream res = new ByteArrayOutputStream();
         try (GZIPOutputStream gzos = new GZIPOutputStream(res)) {
@@ -4,12 +4,17 @@
  */
 package com.artipie.http.slice;
 
+import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.asto.blocking.BlockingStorage;
+import com.artipie.asto.fs.FileStorage;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
 import com.artipie.http.headers.ContentDisposition;
 import com.artipie.http.headers.ContentLength;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
@@ -17,10 +22,16 @@ import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Tests for {@link HeadSlice}.
@@ -58,6 +69,78 @@ final class HeadSliceTest {
         );
     }
 
+    @Test
+    void returnsNotModified(@TempDir final Path tmp) throws Exception {
+        Files.write(tmp.resolve("file"), "content".getBytes());
+        Files.setLastModifiedTime(
+            tmp.resolve("file"), FileTime.from(Instant.parse("2021-03-04T05:06:07Z"))
+        );
+        MatcherAssert.assertThat(
+            new HeadSlice(new FileStorage(tmp)),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.NOT_MODIFIED),
+                    new RsHasHeaders(
+                        new Header("Last-Modified", "Thu, 04 Mar 2021 05:06:07 GMT")
+                    )
+                ),
+                new RequestLine(RqMethod.HEAD, "/file"),
+                new Headers.From("If-Modified-Since", "Fri, 05 Mar 2021 00:00:00 GMT"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void returnsNotFoundWithoutExistenceCheck() {
+        MatcherAssert.assertThat(
+            new HeadSlice(
+                new Storage.Wrap(this.storage) {
+                    @Override
+                    public CompletableFuture<Boolean> exists(final Key key) {
+                        throw new UnsupportedOperationException("exists");
+                    }
+                }
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.HEAD, "/absent")
+            )
+        );
+    }
+
+    @Test
+    void checksExistenceForCustomHeaders() {
+        MatcherAssert.assertThat(
+            new HeadSlice(
+                this.storage,
+                KeyFromPath::new,
+                (line, headers) -> CompletableFuture.completedFuture(Headers.EMPTY)
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.HEAD, "/missing")
+            )
+        );
+    }
+
+    @Test
+    void failsResponseOnTransformError() {
+        final Response rsp = new HeadSlice(
+            this.storage,
+            path -> {
+                throw new IllegalArgumentException(path);
+            }
+        ).response(
+            new RequestLine(RqMethod.HEAD, "/bad").toString(), Headers.EMPTY, Content.EMPTY
+        );
+        MatcherAssert.assertThat(
+            rsp.send((status, headers, body) -> CompletableFuture.allOf())
+                .toCompletableFuture().isCompletedExceptionally(),
+            Matchers.is(true)
+        );
+    }
+
     @Test
     void returnsNotFound() {
         MatcherAssert.assertThat(
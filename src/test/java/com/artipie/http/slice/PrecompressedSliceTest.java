@@ -0,0 +1,283 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.asto.blocking.BlockingStorage;
+import com.artipie.asto.fs.FileStorage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.IsHeader;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link PrecompressedSlice}.
+ * @since 1.2
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class PrecompressedSliceTest {
+
+    /**
+     * Origin data.
+     */
+    private static final byte[] DATA = String.format(
+        "{\"packages\":[%s]}", String.join(",", Collections.nCopies(128, "\"package\""))
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Storage.
+     */
+    private Storage storage;
+
+    @BeforeEach
+    void setUp(@TempDir final Path tmp) {
+        this.storage = new FileStorage(tmp);
+        new BlockingStorage(this.storage)
+            .save(new Key.From("repo", "index.json"), PrecompressedSliceTest.DATA);
+    }
+
+    @Test
+    void writesAndServesSidecar() throws Exception {
+        MatcherAssert.assertThat(
+            "Encoded response",
+            new PrecompressedSlice(this.storage),
+            PrecompressedSliceTest.gzipped(GzipSliceTest.gzip(PrecompressedSliceTest.DATA))
+        );
+        MatcherAssert.assertThat(
+            "Sidecar value",
+            new BlockingStorage(this.storage).value(this.sidecar()),
+            Matchers.equalTo(GzipSliceTest.gzip(PrecompressedSliceTest.DATA))
+        );
+    }
+
+    @Test
+    void servesStoredSidecar() throws Exception {
+        MatcherAssert.assertThat(
+            "First response",
+            new PrecompressedSlice(this.storage),
+            PrecompressedSliceTest.gzipped(GzipSliceTest.gzip(PrecompressedSliceTest.DATA))
+        );
+        final byte[] stored = "stored".getBytes(StandardCharsets.UTF_8);
+        new BlockingStorage(this.storage).save(this.sidecar(), stored);
+        MatcherAssert.assertThat(
+            "Stored sidecar response",
+            new PrecompressedSlice(this.storage),
+            PrecompressedSliceTest.gzipped(stored)
+        );
+    }
+
+    @Test
+    void replacesStaleSidecar() throws Exception {
+        final BlockingStorage bsto = new BlockingStorage(this.storage);
+        final Key stale = new Key.From(".precompressed", "repo", "index.json", "stale.gz");
+        bsto.save(stale, "stale".getBytes());
+        MatcherAssert.assertThat(
+            "Encoded response",
+            new PrecompressedSlice(this.storage),
+            PrecompressedSliceTest.gzipped(GzipSliceTest.gzip(PrecompressedSliceTest.DATA))
+        );
+        MatcherAssert.assertThat("Stale sidecar removed", bsto.exists(stale), Matchers.is(false));
+    }
+
+    @Test
+    void doesNotOverwriteSiblingValue() throws Exception {
+        final BlockingStorage bsto = new BlockingStorage(this.storage);
+        final Key archive = new Key.From("repo", "index.json.gz");
+        final byte[] data = "archive".getBytes(StandardCharsets.UTF_8);
+        bsto.save(archive, data);
+        MatcherAssert.assertThat(
+            "Encoded response",
+            new PrecompressedSlice(this.storage),
+            PrecompressedSliceTest.gzipped(GzipSliceTest.gzip(PrecompressedSliceTest.DATA))
+        );
+        MatcherAssert.assertThat("Sibling value", bsto.value(archive), Matchers.equalTo(data));
+    }
+
+    @Test
+    void keepsSidecarsOfKeysWithSamePrefix() throws Exception {
+        final Storage memory = new Storage.Wrap(new InMemoryStorage()) {
+            @Override
+            public CompletableFuture<? extends Meta> metadata(final Key key) {
+                return super.metadata(key).thenApply(
+                    ignored -> new Meta() {
+                        @Override
+                        public <T> T read(final Meta.ReadOperator<T> opr) {
+                            final Map<String, String> map = new HashMap<>();
+                            Meta.OP_MD5.put(map, "f00d");
+                            return opr.take(map);
+                        }
+                    }
+                );
+            }
+        };
+        final BlockingStorage bsto = new BlockingStorage(memory);
+        bsto.save(new Key.From("repo", "index.json"), PrecompressedSliceTest.DATA);
+        final Key other = new Key.From(".precompressed", "repo", "index.json2", "tag.gz");
+        bsto.save(other, "other".getBytes());
+        MatcherAssert.assertThat(
+            "Encoded response",
+            new PrecompressedSlice(memory),
+            PrecompressedSliceTest.gzipped(GzipSliceTest.gzip(PrecompressedSliceTest.DATA))
+        );
+        MatcherAssert.assertThat(
+            "Sidecar written",
+            bsto.list(new Key.From(".precompressed", "repo", "index.json")),
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat("Other sidecar kept", bsto.exists(other), Matchers.is(true));
+    }
+
+    @Test
+    void compressesOnTheFlyIfSidecarWriteFails() throws Exception {
+        final Storage failing = new Storage.Wrap(this.storage) {
+            @Override
+            public CompletableFuture<Void> move(final Key source, final Key destination) {
+                final CompletableFuture<Void> res = new CompletableFuture<>();
+                res.completeExceptionally(new IllegalStateException("move failed"));
+                return res;
+            }
+        };
+        MatcherAssert.assertThat(
+            new PrecompressedSlice(failing),
+            PrecompressedSliceTest.gzipped(GzipSliceTest.gzip(PrecompressedSliceTest.DATA))
+        );
+    }
+
+    @Test
+    void servesSmallValueAsIs() {
+        new BlockingStorage(this.storage).save(new Key.From("small.json"), "{}".getBytes());
+        MatcherAssert.assertThat(
+            new PrecompressedSlice(this.storage),
+            PrecompressedSliceTest.identity("/small.json", "{}".getBytes())
+        );
+    }
+
+    @Test
+    void servesCompressedFormatAsIs() {
+        final byte[] data = new byte[4096];
+        new BlockingStorage(this.storage).save(new Key.From("lib.jar"), data);
+        MatcherAssert.assertThat(
+            "Served as is",
+            new PrecompressedSlice(this.storage),
+            PrecompressedSliceTest.identity("/lib.jar", data)
+        );
+        MatcherAssert.assertThat(
+            "Sidecar not written",
+            new BlockingStorage(this.storage).exists(new Key.From(".precompressed")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void servesIdentityIfGzipIsNotAccepted() {
+        MatcherAssert.assertThat(
+            new PrecompressedSlice(this.storage),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    Matchers.not(
+                        new RsHasHeaders(
+                            new IsHeader("Content-Encoding", Matchers.any(String.class))
+                        )
+                    ),
+                    new RsHasBody(PrecompressedSliceTest.DATA)
+                ),
+                new RequestLine(RqMethod.GET, "/repo/index.json"),
+                new Headers.From("Accept-Encoding", "gzip;q=0"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void returnsNotFound() {
+        MatcherAssert.assertThat(
+            new PrecompressedSlice(this.storage),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, "/repo/missing.json"),
+                new Headers.From("Accept-Encoding", "gzip"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    /**
+     * Key of the only sidecar of index.
+     * @return Sidecar key
+     */
+    private Key sidecar() {
+        final Collection<Key> keys = new BlockingStorage(this.storage)
+            .list(new Key.From(".precompressed", "repo", "index.json"));
+        MatcherAssert.assertThat("Single sidecar", keys, Matchers.hasSize(1));
+        return keys.iterator().next();
+    }
+
+    /**
+     * Matcher of not encoded response for gzip accepting request.
+     * @param path Request path
+     * @param body Expected body
+     * @return Matcher
+     */
+    private static SliceHasResponse identity(final String path, final byte[] body) {
+        return new SliceHasResponse(
+            Matchers.allOf(
+                new RsHasStatus(RsStatus.OK),
+                Matchers.not(
+                    new RsHasHeaders(
+                        new IsHeader("Content-Encoding", Matchers.any(String.class))
+                    )
+                ),
+                new RsHasBody(body)
+            ),
+            new RequestLine(RqMethod.GET, path),
+            new Headers.From("Accept-Encoding", "gzip"),
+            Content.EMPTY
+        );
+    }
+
+    /**
+     * Matcher of gzip encoded response for index request.
+     * @param body Expected body
+     * @return Matcher
+     */
+    private static SliceHasResponse gzipped(final byte[] body) {
+        return new SliceHasResponse(
+            Matchers.allOf(
+                new RsHasStatus(RsStatus.OK),
+                new RsHasHeaders(
+                    new Header("Content-Encoding", "gzip"),
+                    new Header("Vary", "Accept-Encoding")
+                ),
+                new RsHasBody(body)
+            ),
+            new RequestLine(RqMethod.GET, "/repo/index.json"),
+            new Headers.From("Accept-Encoding", "gzip"),
+            Content.EMPTY
+        );
+    }
+}
@@ -6,20 +6,41 @@ package com.artipie.http.slice;
 
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
 import com.artipie.asto.Storage;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.ResponseMatcher;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rs.FileRegion;
 import com.artipie.http.rs.RsStatus;
+import com.artipie.http.storage.FileRegionStorage;
 import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.map.MapEntry;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsInstanceOf;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reactivestreams.Publisher;
 
 /**
  * Test case for {@link SliceDownload}.
@@ -53,6 +74,31 @@ public final class SliceDownloadTest {
         );
     }
 
+    @Test
+    void doesNotCheckExistence() throws Exception {
+        final Storage storage = new Storage.Wrap(new InMemoryStorage()) {
+            @Override
+            public CompletableFuture<Boolean> exists(final Key key) {
+                throw new UnsupportedOperationException("exists");
+            }
+        };
+        storage.save(new Key.From("exists.txt"), new Content.From("yes".getBytes())).get();
+        MatcherAssert.assertThat(
+            "Returns content",
+            new SliceDownload(storage).response(
+                rqLineFrom("/exists.txt"), Headers.EMPTY, Flowable.empty()
+            ),
+            new RsHasBody("yes", StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Returns not found",
+            new SliceDownload(storage).response(
+                rqLineFrom("/absent.txt"), Headers.EMPTY, Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+    }
+
     @Test
     void returnsOkOnEmptyValue() throws Exception {
         final Storage storage = new InMemoryStorage();
@@ -86,7 +132,257 @@ public final class SliceDownloadTest {
         );
     }
 
+    @Test
+    void downloadsFileRegionFromFileStorage(@TempDir final Path tmp) throws Exception {
+        final byte[] data = "region".getBytes(StandardCharsets.UTF_8);
+        Files.createDirectories(tmp.resolve("files"));
+        Files.write(tmp.resolve("files/data.txt"), data);
+        final AtomicReference<Publisher<ByteBuffer>> sent = new AtomicReference<>();
+        final Response rsp = new SliceDownload(new FileRegionStorage(tmp)).response(
+            rqLineFrom("/files/data.txt"), Collections.emptyList(), Flowable.empty()
+        );
+        rsp.send(
+            (status, headers, body) -> {
+                sent.set(body);
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Sends file region",
+            sent.get(),
+            new IsInstanceOf(FileRegion.class)
+        );
+        MatcherAssert.assertThat(
+            "Has file content",
+            rsp,
+            new ResponseMatcher(RsStatus.OK, data)
+        );
+    }
+
+    @Test
+    void downloadsSingleRange() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        storage.save(
+            new Key.From("range.txt"), new Content.From("0123456789".getBytes())
+        ).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage).response(
+                rqLineFrom("/range.txt"),
+                new Headers.From("Range", "bytes=2-5"),
+                Flowable.empty()
+            ),
+            new AllOf<>(
+                Arrays.asList(
+                    new RsHasStatus(RsStatus.PARTIAL_CONTENT),
+                    new RsHasHeaders(
+                        new Header("Content-Range", "bytes 2-5/10"),
+                        new Header("Content-Length", "4")
+                    ),
+                    new RsHasBody("2345", StandardCharsets.UTF_8)
+                )
+            )
+        );
+    }
+
+    @Test
+    void downloadsMultipleRanges(@TempDir final Path tmp) throws Exception {
+        Files.write(tmp.resolve("multi.txt"), "abcdefghij".getBytes(StandardCharsets.UTF_8));
+        final Response rsp = new SliceDownload(new FileRegionStorage(tmp)).response(
+            rqLineFrom("/multi.txt"),
+            new Headers.From("Range", "bytes=-2,0-1"),
+            Flowable.empty()
+        );
+        final AtomicReference<String> boundary = new AtomicReference<>();
+        rsp.send(
+            (status, headers, body) -> {
+                boundary.set(
+                    new ContentType(headers).getValue().replaceAll(".*boundary=", "")
+                );
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            rsp,
+            new AllOf<>(
+                Arrays.asList(
+                    new RsHasStatus(RsStatus.PARTIAL_CONTENT),
+                    new RsHasBody(
+                        String.join(
+                            "\r\n",
+                            String.format("--%s", boundary.get()),
+                            "Content-Range: bytes 0-1/10",
+                            "",
+                            "ab",
+                            String.format("--%s", boundary.get()),
+                            "Content-Range: bytes 8-9/10",
+                            "",
+                            "ij",
+                            String.format("--%s--", boundary.get()),
+                            ""
+                        ),
+                        StandardCharsets.US_ASCII
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void returnsBadRangeIfNotSatisfiable() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        storage.save(new Key.From("small.txt"), new Content.From("abc".getBytes())).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage).response(
+                rqLineFrom("/small.txt"),
+                new Headers.From("Range", "bytes=10-20"),
+                Flowable.empty()
+            ),
+            new ResponseMatcher(
+                RsStatus.BAD_RANGE,
+                new Header("Content-Range", "bytes */3")
+            )
+        );
+    }
+
+    @Test
+    void returnsEtagForUnconditionalRequest() throws Exception {
+        final Storage storage = new MetaStorage("abc123");
+        storage.save(new Key.From("plain.json"), new Content.From("{}".getBytes())).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage).response(
+                rqLineFrom("/plain.json"), Headers.EMPTY, Flowable.empty()
+            ),
+            new ResponseMatcher(RsStatus.OK, new Header("ETag", "\"abc123\""))
+        );
+    }
+
+    @Test
+    void returnsNotModifiedIfEtagMatches() throws Exception {
+        final Storage storage = new MetaStorage("abc123");
+        storage.save(new Key.From("meta.json"), new Content.From("{}".getBytes())).get();
+        MatcherAssert.assertThat(
+            "Returns ETag",
+            new SliceDownload(storage).response(
+                rqLineFrom("/meta.json"),
+                new Headers.From("If-None-Match", "\"other\""),
+                Flowable.empty()
+            ),
+            new ResponseMatcher(RsStatus.OK, new Header("ETag", "\"abc123\""))
+        );
+        MatcherAssert.assertThat(
+            "Returns not modified",
+            new SliceDownload(storage).response(
+                rqLineFrom("/meta.json"),
+                new Headers.From("If-None-Match", "\"other\", W/\"abc123\""),
+                Flowable.empty()
+            ),
+            new ResponseMatcher(
+                RsStatus.NOT_MODIFIED,
+                new Header("ETag", "\"abc123\"")
+            )
+        );
+    }
+
+    @Test
+    void returnsNotModifiedIfNotModifiedSince(@TempDir final Path tmp) throws Exception {
+        Files.write(tmp.resolve("old.txt"), "old".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(
+            tmp.resolve("old.txt"), FileTime.from(Instant.parse("2020-01-02T03:04:05.600Z"))
+        );
+        final Storage storage = new FileRegionStorage(tmp);
+        MatcherAssert.assertThat(
+            "Returns Last-Modified",
+            new SliceDownload(storage).response(
+                rqLineFrom("/old.txt"),
+                new Headers.From("If-Modified-Since", "Wed, 01 Jan 2020 00:00:00 GMT"),
+                Flowable.empty()
+            ),
+            new RsHasHeaders(new Header("Last-Modified", "Thu, 02 Jan 2020 03:04:05 GMT"))
+        );
+        MatcherAssert.assertThat(
+            "Returns not modified",
+            new SliceDownload(storage).response(
+                rqLineFrom("/old.txt"),
+                new Headers.From("If-Modified-Since", "Thu, 02 Jan 2020 03:04:05 GMT"),
+                Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.NOT_MODIFIED)
+        );
+        MatcherAssert.assertThat(
+            "Returns content if modified",
+            new SliceDownload(storage).response(
+                rqLineFrom("/old.txt"),
+                new Headers.From("If-Modified-Since", "Thu, 02 Jan 2020 03:04:04 GMT"),
+                Flowable.empty()
+            ),
+            new ResponseMatcher(RsStatus.OK, "old".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void servesRangeOnlyIfRangeMatches() throws Exception {
+        final Storage storage = new MetaStorage("f00d");
+        storage.save(new Key.From("data.bin"), new Content.From("0123".getBytes())).get();
+        MatcherAssert.assertThat(
+            "Serves range",
+            new SliceDownload(storage).response(
+                rqLineFrom("/data.bin"),
+                new Headers.From(
+                    new Header("Range", "bytes=1-2"), new Header("If-Range", "\"f00d\"")
+                ),
+                Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.PARTIAL_CONTENT)
+        );
+        MatcherAssert.assertThat(
+            "Serves full content",
+            new SliceDownload(storage).response(
+                rqLineFrom("/data.bin"),
+                new Headers.From(
+                    new Header("Range", "bytes=1-2"), new Header("If-Range", "\"beef\"")
+                ),
+                Flowable.empty()
+            ),
+            new ResponseMatcher(RsStatus.OK, "0123".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
     private static String rqLineFrom(final String path) {
         return new RequestLine("GET", path, "HTTP/1.1").toString();
     }
+
+    /**
+     * Storage with MD5 checksum in metadata.
+     * @since 1.2
+     */
+    private static final class MetaStorage extends Storage.Wrap {
+
+        /**
+         * MD5 checksum.
+         */
+        private final String md5;
+
+        /**
+         * Ctor.
+         * @param md5 MD5 checksum
+         */
+        MetaStorage(final String md5) {
+            super(new InMemoryStorage());
+            this.md5 = md5;
+        }
+
+        @Override
+        public CompletableFuture<? extends Meta> metadata(final Key key) {
+            final Map<String, String> map = new HashMap<>();
+            Meta.OP_MD5.put(map, this.md5);
+            return super.metadata(key).thenApply(
+                ignored -> new Meta() {
+                    @Override
+                    public <T> T read(final Meta.ReadOperator<T> opr) {
+                        return opr.take(map);
+                    }
+                }
+            );
+        }
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/http/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.IsHeader;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsFull;
+import com.artipie.http.rs.RsStatus;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link WithEncodingSlice}.
+ * @since 1.2
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class WithEncodingSliceTest {
+
+    @Test
+    void encodesWithNegotiatedCoding() {
+        final byte[] data = new byte[2048];
+        Arrays.fill(data, (byte) 'a');
+        MatcherAssert.assertThat(
+            new WithEncodingSlice(
+                new SliceSimple(
+                    new RsFull(
+                        RsStatus.OK,
+                        new Headers.From(
+                            new ContentType("application/json"), new Header("ETag", "\"abc\"")
+                        ),
+                        new Content.From(data)
+                    )
+                )
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasHeaders(
+                        new Header("Content-Encoding", "deflate"),
+                        new Header("Vary", "Accept-Encoding"),
+                        new Header("ETag", "W/\"abc\"")
+                    ),
+                    new RsHasBody(WithEncodingSliceTest.deflate(data))
+                ),
+                new RequestLine(RqMethod.GET, "/index.json"),
+                new Headers.From("Accept-Encoding", "gzip;q=0.5, deflate;q=0.9"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void doesNotEncodeSmallBody() {
+        final byte[] data = "small".getBytes();
+        MatcherAssert.assertThat(
+            new WithEncodingSlice(new SliceSimple(new RsFull(RsStatus.OK, Headers.EMPTY,
+                new Content.From(data)))),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    Matchers.not(
+                        new RsHasHeaders(new IsHeader("Content-Encoding", Matchers.any(String.class)))
+                    ),
+                    new RsHasBody(data)
+                ),
+                new RequestLine(RqMethod.GET, "/small.txt"),
+                new Headers.From("Accept-Encoding", "gzip"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void doesNotEncodeCompressedFile() {
+        final byte[] data = new byte[4096];
+        MatcherAssert.assertThat(
+            new WithEncodingSlice(new SliceSimple(new RsFull(RsStatus.OK, Headers.EMPTY,
+                new Content.From(data)))),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    Matchers.not(
+                        new RsHasHeaders(new IsHeader("Content-Encoding", Matchers.any(String.class)))
+                    ),
+                    Matchers.not(new RsHasHeaders(new IsHeader("Vary", "Accept-Encoding"))),
+                    new RsHasBody(data)
+                ),
+                new RequestLine(RqMethod.GET, "/com/artipie/lib.jar"),
+                new Headers.From("Accept-Encoding", "gzip"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void addsVaryIfNotEncoded() {
+        final byte[] data = new byte[4096];
+        MatcherAssert.assertThat(
+            new WithEncodingSlice(new SliceSimple(new RsFull(RsStatus.OK, Headers.EMPTY,
+                new Content.From(data)))),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasHeaders(new Header("Vary", "Accept-Encoding")),
+                    new RsHasBody(data)
+                ),
+                new RequestLine(RqMethod.GET, "/file.xml")
+            )
+        );
+    }
+
+    @Test
+    void negotiatesHeadersForHead() {
+        MatcherAssert.assertThat(
+            new WithEncodingSlice(
+                new SliceSimple(
+                    new RsFull(
+                        RsStatus.OK,
+                        new Headers.From(new ContentLength(2048), new Header("ETag", "\"abc\"")),
+                        Content.EMPTY
+                    )
+                )
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasHeaders(
+                        new Header("Content-Encoding", "gzip"),
+                        new Header("Vary", "Accept-Encoding"),
+                        new Header("ETag", "W/\"abc\"")
+                    ),
+                    new RsHasBody(new byte[0])
+                ),
+                new RequestLine(RqMethod.HEAD, "/index.html"),
+                new Headers.From("Accept-Encoding", "gzip"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void acceptsUnknownMethods() {
+        final byte[] data = new byte[2048];
+        MatcherAssert.assertThat(
+            new WithEncodingSlice(
+                new SliceSimple(new RsFull(RsStatus.OK, Headers.EMPTY, new Content.From(data)))
+            ),
+            new SliceHasResponse(
+                new RsHasHeaders(new Header("Content-Encoding", "gzip")),
+                new RequestLine("PROPFIND", "/dav/file.xml", "HTTP/1.1"),
+                new Headers.From("Accept-Encoding", "gzip"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void addsVaryToNotModified() {
+        MatcherAssert.assertThat(
+            new WithEncodingSlice(
+                new SliceSimple(
+                    new RsFull(
+                        RsStatus.NOT_MODIFIED,
+                        new Headers.From(new Header("ETag", "\"abc\"")),
+                        Content.EMPTY
+                    )
+                )
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasHeaders(new Header("Vary", "Accept-Encoding")),
+                    Matchers.not(
+                        new RsHasHeaders(new IsHeader("Content-Encoding", Matchers.any(String.class)))
+                    )
+                ),
+                new RequestLine(RqMethod.GET, "/index.html"),
+                new Headers.From("Accept-Encoding", "gzip"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    private static byte[] deflate(final byte[] data) {
+        final Deflater deflater = new Deflater();
+        deflater.setInput(data);
+        deflater.finish();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[1024];
+        while (!deflater.finished()) {
+            out.write(buf, 0, deflater.deflate(buf));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+}
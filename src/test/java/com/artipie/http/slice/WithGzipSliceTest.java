@@ -8,6 +8,7 @@ import com.artipie.asto.Content;
 import com.artipie.http.Headers;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.Header;
+import com.artipie.http.hm.IsHeader;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
@@ -42,7 +43,10 @@ class WithGzipSliceTest {
                 Matchers.allOf(
                     new RsHasStatus(RsStatus.OK),
                     new RsHasBody(GzipSliceTest.gzip(data)),
-                    new RsHasHeaders(new ContentLength(20), new Header("Content-Encoding", "gzip"))
+                    new RsHasHeaders(new Header("Content-Encoding", "gzip")),
+                    Matchers.not(
+                        new RsHasHeaders(new IsHeader("Content-Length", Matchers.any(String.class)))
+                    )
                 ),
                 new RequestLine(RqMethod.GET, "/"),
                 new Headers.From(new Header("accept-encoding", "gzip")),
@@ -51,6 +55,23 @@ class WithGzipSliceTest {
         );
     }
 
+    @Test
+    void returnsResponseAsIsIfGzipIsNotAcceptable() {
+        final byte[] data = "not acceptable".getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            new WithGzipSlice(new SliceSimple(new RsWithBody(StandardRs.OK, data))),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasBody(data),
+                    new RsHasHeaders(new ContentLength(data.length))
+                ),
+                new RequestLine(RqMethod.GET, "/"),
+                new Headers.From(new Header("Accept-Encoding", "gzip;q=0, identity")),
+                Content.EMPTY
+            )
+        );
+    }
+
     @Test
     void returnsResponseAsIsIfAcceptEncodingIsNotPassed() {
         final byte[] data = "abc123".getBytes(StandardCharsets.UTF_8);